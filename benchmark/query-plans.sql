@@ -0,0 +1,112 @@
+-- Benchmark dos índices da migração V2.
+--
+-- Uso (banco já migrado pela aplicação):
+--   psql -h localhost -p 5433 -U postgres -d astentask -f benchmark/query-plans.sql
+--
+-- Gera uma massa de dados dentro de uma transação, roda EXPLAIN (ANALYZE, BUFFERS) nas mesmas consultas
+-- que os repositórios emitem e desfaz tudo no final. Nos planos, procure "Index Scan"/"Bitmap Index Scan"
+-- com o nome do índice esperado no lugar de "Seq Scan on tasks"/"Seq Scan on timelogs".
+
+\set ON_ERROR_STOP on
+\timing on
+
+BEGIN;
+
+INSERT INTO users (id, name, email, password, role, created_at, updated_at)
+SELECT nextval('users_seq'), 'bench ' || g, 'bench' || g || '@bench.local', 'x', 'DEVELOPER', now(), now()
+FROM generate_series(1, 200) g;
+
+INSERT INTO projects (name, description, created_at, updated_at, owner_id)
+SELECT 'bench-project-' || g, 'projeto de benchmark', now(), now(),
+       (SELECT min(id) FROM users WHERE email LIKE 'bench%@bench.local')
+FROM generate_series(1, 50) g;
+
+-- Os ids vêm das linhas inseridas, não de min(id) + deslocamento: users_seq avança de 50 em 50 (V1) e
+-- outras sequências podem ter lacunas.
+INSERT INTO tasks (title, description, status, priority, due_date, assignee_id, project_id, created_at, updated_at)
+SELECT 'Tarefa ' || g || CASE WHEN g % 100 = 0 THEN ' relatório financeiro' ELSE '' END,
+       'Descrição da tarefa ' || g,
+       (ARRAY['PENDING', 'IN_PROGRESS', 'COMPLETED'])[1 + g % 3],
+       (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + g % 3],
+       now() + (g % 365) * interval '1 day',
+       u.ids[1 + g % 200],
+       p.ids[1 + g % 50],
+       now() - (g % 1000) * interval '1 hour',
+       now()
+FROM generate_series(1, 200000) g,
+     (SELECT array_agg(id ORDER BY id) AS ids FROM users WHERE email LIKE 'bench%@bench.local') u,
+     (SELECT array_agg(id ORDER BY id) AS ids FROM projects WHERE name LIKE 'bench-project-%') p;
+
+INSERT INTO timelogs (task_id, user_id, start_time, end_time, duration_in_minutes, created_at, updated_at)
+SELECT t.ids[1 + g % 20000], u.ids[1 + g % 200],
+       now() - (g % 5000) * interval '1 hour', now() - (g % 5000) * interval '1 hour' + interval '30 minutes',
+       30, now(), now()
+FROM generate_series(1, 300000) g,
+     (SELECT array_agg(id ORDER BY id) AS ids
+      FROM (SELECT t.id FROM tasks t JOIN projects p ON p.id = t.project_id
+            WHERE p.name LIKE 'bench-project-%' ORDER BY t.id LIMIT 20000) bench_tasks) t,
+     (SELECT array_agg(id ORDER BY id) AS ids FROM users WHERE email LIKE 'bench%@bench.local') u;
+
+ANALYZE users;
+ANALYZE projects;
+ANALYZE tasks;
+ANALYZE timelogs;
+
+SELECT min(id) AS project_id FROM projects WHERE name = 'bench-project-1' \gset
+SELECT min(id) AS user_id FROM users WHERE email = 'bench1@bench.local' \gset
+SELECT min(id) AS task_id FROM tasks WHERE title = 'Tarefa 1' \gset
+
+-- TaskService.listTasks: filtro por projeto e status, ordenado por created_at (idx_tasks_project_status / idx_tasks_project_created)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.*, a.name
+FROM tasks t LEFT JOIN users a ON a.id = t.assignee_id
+WHERE t.project_id = :project_id AND t.status = 'PENDING'
+ORDER BY t.created_at DESC, t.id DESC
+LIMIT 50;
+
+-- Contagem da mesma listagem (idx_tasks_project_status)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(t.id) FROM tasks t WHERE t.project_id = :project_id AND t.status = 'PENDING';
+
+-- Paginação por cursor na listagem padrão (idx_tasks_project_created)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM tasks t
+WHERE t.project_id = :project_id
+  AND (t.created_at < now() - interval '100 hours' OR (t.created_at = now() - interval '100 hours' AND t.id < 1000000))
+ORDER BY t.created_at DESC, t.id DESC
+LIMIT 51;
+
+-- DashboardService: countByAssigneeIdAndStatus (idx_tasks_assignee_status)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(t.id) FROM tasks t WHERE t.assignee_id = :user_id AND t.status = 'IN_PROGRESS';
+
+-- Minhas tarefas com intervalo de vencimento (idx_tasks_assignee_status + idx_tasks_due_date)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM tasks t
+WHERE t.assignee_id = :user_id AND t.due_date BETWEEN now() AND now() + interval '7 days'
+ORDER BY t.due_date
+LIMIT 10;
+
+-- Filtro por data de criação (idx_tasks_created_at)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(t.id) FROM tasks t WHERE t.created_at BETWEEN now() - interval '2 hours' AND now();
+
+-- Busca textual q=rel fin (idx_tasks_search)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.id, t.title FROM tasks t
+WHERE to_tsvector('simple', coalesce(t.title, '') || ' ' || coalesce(t.description, ''))
+      @@ to_tsquery('simple', 'rel:* & fin:*')
+LIMIT 50;
+
+-- TimeLogService.listTimeLogs: registros da tarefa por start_time (idx_timelogs_task_start)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT l.* FROM timelogs l
+WHERE l.task_id = :task_id AND l.start_time >= now() - interval '30 days'
+ORDER BY l.start_time
+LIMIT 10;
+
+-- TimeLogRepository.sumDurationByUserId (idx_timelogs_user)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT sum(l.duration_in_minutes) FROM timelogs l WHERE l.user_id = :user_id;
+
+ROLLBACK;
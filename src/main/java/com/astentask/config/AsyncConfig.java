@@ -0,0 +1,89 @@
+package com.astentask.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    public static final String QUERY_EXECUTOR = "queryExecutor";
+    public static final String REPORT_EXECUTOR = "reportExecutor";
+    public static final String DERIVATIVE_EXECUTOR = "derivativeExecutor";
+    public static final String STORAGE_GC_EXECUTOR = "storageGcExecutor";
+
+    /**
+     * Pool para consultas independentes de uma mesma requisição executadas em paralelo.
+     * É limitado para não consumir o pool de conexões: com a fila cheia, a própria thread
+     * da requisição executa a consulta.
+     */
+    @Bean(QUERY_EXECUTOR)
+    public ThreadPoolTaskExecutor queryExecutor(
+            @Value("${astentask.query-executor.core-size:4}") int coreSize,
+            @Value("${astentask.query-executor.max-size:8}") int maxSize,
+            @Value("${astentask.query-executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("query-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Pool dos jobs de relatório. Poucas threads e fila curta: relatórios pesados nunca ocupam mais que
+     * max-size conexões, e com a fila cheia o pedido é recusado em vez de competir com as requisições comuns.
+     */
+    @Bean(REPORT_EXECUTOR)
+    public ThreadPoolTaskExecutor reportExecutor(
+            @Value("${astentask.reports.executor.max-size:2}") int maxSize,
+            @Value("${astentask.reports.executor.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("report-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * Pool da geração de miniaturas. Decodificar imagens consome CPU e memória, então o número de threads é
+     * fixo; com a fila cheia a geração é descartada e volta a ser pedida no próximo download da variante.
+     */
+    @Bean(DERIVATIVE_EXECUTOR)
+    public ThreadPoolTaskExecutor derivativeExecutor(
+            @Value("${astentask.attachments.derivatives.executor.max-size:2}") int maxSize,
+            @Value("${astentask.attachments.derivatives.executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("derivative-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * Thread própria da coleta de anexos sem referência, que percorre o storage inteiro com pausas entre os lotes.
+     * Fora do scheduler (uma única thread), ela não atrasa o envio de atualizações ao vivo nem a limpeza de
+     * uploads. Sem fila: enquanto uma coleta roda, a próxima é descartada.
+     */
+    @Bean(STORAGE_GC_EXECUTOR)
+    public ThreadPoolTaskExecutor storageGcExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("storage-gc-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
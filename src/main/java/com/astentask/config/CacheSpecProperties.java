@@ -0,0 +1,43 @@
+package com.astentask.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Limites dos caches nomeados. Cada cache em {@code astentask.cache.caches[nome]} herda de
+ * {@code astentask.cache.defaults} os campos que não definir.
+ */
+@Data
+@ConfigurationProperties(prefix = "astentask.cache")
+public class CacheSpecProperties {
+
+    private Spec defaults = new Spec();
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public Spec specFor(String cacheName) {
+        Spec own = caches.get(cacheName);
+        if (own == null) {
+            return defaults;
+        }
+        Spec merged = new Spec();
+        merged.setMaximumSize(own.getMaximumSize() != null ? own.getMaximumSize() : defaults.getMaximumSize());
+        merged.setMaximumWeight(own.getMaximumWeight() != null ? own.getMaximumWeight() : defaults.getMaximumWeight());
+        merged.setExpireAfterWrite(own.getExpireAfterWrite() != null ? own.getExpireAfterWrite() : defaults.getExpireAfterWrite());
+        merged.setExpireAfterAccess(own.getExpireAfterAccess() != null ? own.getExpireAfterAccess() : defaults.getExpireAfterAccess());
+        return merged;
+    }
+
+    @Data
+    public static class Spec {
+        /** Quantidade máxima de entradas. Ignorado quando maximumWeight está definido. */
+        private Long maximumSize;
+        /** Peso máximo, em número de itens somados de todas as páginas/listas cacheadas. */
+        private Long maximumWeight;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+    }
+}
@@ -0,0 +1,75 @@
+package com.astentask.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Geração por projeto usada na chave do cache "tasksSearch". Trocar a geração de um projeto
+ * torna inalcançáveis apenas as buscas daquele projeto; as entradas antigas expiram pelo próprio cache.
+ * <p>
+ * As gerações saem todas de um mesmo contador global, então nenhum valor se repete. Só os projetos usados
+ * recentemente têm a geração guardada ({@code astentask.cache.project-generations.maximum-size}); um projeto
+ * descartado recebe um valor novo quando volta, e as buscas gravadas antes disso não são mais alcançadas.
+ */
+@Component("projectCacheGenerations")
+public class ProjectCacheGenerations {
+
+    private final AtomicLong global = new AtomicLong();
+    private final Cache<Long, Long> generations;
+
+    public ProjectCacheGenerations(@Value("${astentask.cache.project-generations.maximum-size:10000}") long maximumSize) {
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public long current(Long projectId) {
+        if (projectId == null) {
+            return global.get();
+        }
+        return generations.get(projectId, id -> global.incrementAndGet());
+    }
+
+    /**
+     * Invalida as buscas do projeto. Dentro de uma transação a troca só acontece após o commit,
+     * para que uma leitura concorrente não grave no cache, com a geração nova, dados ainda não confirmados.
+     */
+    public void invalidate(Long projectId) {
+        afterCommit(() -> {
+            long next = global.incrementAndGet();
+            if (projectId != null) {
+                // merge com max: dois commits concorrentes nunca fazem a geração voltar para um valor já usado.
+                generations.asMap().merge(projectId, next, Math::max);
+            }
+        });
+    }
+
+    /**
+     * Descarta a geração de um projeto excluído, invalidando as suas buscas e as que não filtram por projeto.
+     */
+    public void forget(Long projectId) {
+        afterCommit(() -> {
+            global.incrementAndGet();
+            generations.invalidate(projectId);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
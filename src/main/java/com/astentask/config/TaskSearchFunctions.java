@@ -0,0 +1,29 @@
+package com.astentask.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Funções de busca textual do PostgreSQL expostas ao Criteria/HQL. O documento é a mesma expressão
+ * do índice GIN idx_tasks_search (migração V2); se uma mudar, a outra precisa mudar junto para o índice continuar sendo usado.
+ */
+public class TaskSearchFunctions implements FunctionContributor {
+
+    public static final String MATCHES = "task_search_matches";
+    public static final String RANK = "task_search_rank";
+
+    public static final String DOCUMENT = "to_tsvector('simple', coalesce(?1, '') || ' ' || coalesce(?2, ''))";
+    private static final String QUERY = "to_tsquery('simple', ?3)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCHES, "(" + DOCUMENT + " @@ " + QUERY + ")", types.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry().registerPattern(
+                RANK, "ts_rank(" + DOCUMENT + ", " + QUERY + ")", types.resolve(StandardBasicTypes.DOUBLE));
+    }
+}
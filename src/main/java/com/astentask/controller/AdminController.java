@@ -0,0 +1,175 @@
+package com.astentask.controller;
+
+import com.astentask.dtos.AttachmentMigrationResultDTO;
+import com.astentask.dtos.CacheStatsDTO;
+import com.astentask.dtos.CounterReconcileResultDTO;
+import com.astentask.dtos.ErrorResponseDTO;
+import com.astentask.dtos.ProjectStorageUsageDTO;
+import com.astentask.dtos.StorageGcResultDTO;
+import com.astentask.dtos.StorageQuotaRequestDTO;
+import com.astentask.service.AttachmentGarbageCollector;
+import com.astentask.service.AttachmentStorageMigrationService;
+import com.astentask.service.CacheStatsService;
+import com.astentask.service.DashboardCounterService;
+import com.astentask.service.StorageQuotaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Tag(name = "Administração", description = "Operações administrativas e de observabilidade.")
+public class AdminController {
+
+    private final CacheStatsService cacheStatsService;
+    private final DashboardCounterService counterService;
+    private final AttachmentStorageMigrationService attachmentMigrationService;
+    private final AttachmentGarbageCollector attachmentGarbageCollector;
+    private final StorageQuotaService quotaService;
+
+    @Operation(
+            summary = "Estatísticas dos caches",
+            description = "Retorna tamanho, acertos, falhas e remoções de cada cache nomeado.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso",
+                            content = @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = CacheStatsDTO.class)))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getStats());
+    }
+
+    @Operation(
+            summary = "Reconciliar contadores do dashboard",
+            description = "Recalcula os contadores do dashboard a partir das tarefas e registros de tempo e corrige os divergentes. "
+                    + "Escritas de tarefas e registros de tempo aguardam o fim da reconciliação.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Contadores reconciliados",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CounterReconcileResultDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @PostMapping("/dashboard-counters/reconcile")
+    public ResponseEntity<CounterReconcileResultDTO> reconcileDashboardCounters() {
+        long start = System.currentTimeMillis();
+        long corrected = counterService.reconcile();
+        return ResponseEntity.ok(new CounterReconcileResultDTO(corrected, System.currentTimeMillis() - start));
+    }
+
+    @Operation(
+            summary = "Mover anexos antigos para o storage",
+            description = "Move o conteúdo dos anexos ainda gravados na coluna bytea para o storage de anexos, um por transação. "
+                    + "Pode ser executado novamente; anexos já movidos são ignorados.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Migração concluída",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = AttachmentMigrationResultDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @PostMapping("/attachments/migrate-storage")
+    public ResponseEntity<AttachmentMigrationResultDTO> migrateAttachmentStorage() {
+        return ResponseEntity.ok(attachmentMigrationService.migrateLegacyContent());
+    }
+
+    @Operation(
+            summary = "Coletar conteúdo de anexos sem referência",
+            description = "Remove, em lotes, os blobs que nenhum anexo usa e os arquivos do storage sem referência no banco. "
+                    + "A mesma coleta roda periodicamente em segundo plano.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Coleta concluída",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = StorageGcResultDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @PostMapping("/attachments/gc")
+    public ResponseEntity<StorageGcResultDTO> collectAttachmentGarbage() {
+        return ResponseEntity.ok(attachmentGarbageCollector.collect());
+    }
+
+    @Operation(
+            summary = "Uso de armazenamento do projeto",
+            description = "Retorna o espaço ocupado pelos anexos do projeto, a quantidade de anexos e a cota em vigor.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Uso retornado com sucesso",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ProjectStorageUsageDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @GetMapping("/projects/{projectId}/storage")
+    public ResponseEntity<ProjectStorageUsageDTO> getProjectStorage(@PathVariable Long projectId) {
+        return ResponseEntity.ok(quotaService.getUsage(projectId));
+    }
+
+    @Operation(
+            summary = "Definir cota de armazenamento do projeto",
+            description = "Define a cota de anexos do projeto em bytes; sem valor, o projeto volta para a cota padrão. "
+                    + "Uma cota abaixo do uso atual apenas impede novos uploads.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Cota atualizada",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ProjectStorageUsageDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Cota inválida",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @PutMapping("/projects/{projectId}/storage-quota")
+    public ResponseEntity<ProjectStorageUsageDTO> setProjectStorageQuota(
+            @PathVariable Long projectId, @RequestBody @Valid StorageQuotaRequestDTO request) {
+        return ResponseEntity.ok(quotaService.setQuota(projectId, request.getQuotaBytes()));
+    }
+}
@@ -0,0 +1,59 @@
+package com.astentask.controller;
+
+import com.astentask.dtos.ErrorResponseDTO;
+import com.astentask.dtos.TimeLogSeriesDTO;
+import com.astentask.service.TimeLogAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "Séries temporais pré-agregadas")
+public class AnalyticsController {
+
+    private final TimeLogAnalyticsService analyticsService;
+
+    @Operation(
+            summary = "Minutos registrados por período",
+            description = "Retorna os minutos registrados por dia ou por semana, agrupados por usuário, tarefa ou projeto. "
+                    + "A consulta lê apenas os baldes diários pré-agregados, não os registros de tempo. "
+                    + "Semanas começam na segunda-feira e o intervalo é estendido para semanas completas.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Série retornada com sucesso",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = TimeLogSeriesDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Agrupamento, granularidade ou intervalo inválido",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @GetMapping("/time-logs")
+    public ResponseEntity<TimeLogSeriesDTO> getTimeLogSeries(
+            @Parameter(description = "Dimensão de agrupamento (user, task ou project)") @RequestParam(defaultValue = "project") String groupBy,
+            @Parameter(description = "Granularidade (day ou week)") @RequestParam(defaultValue = "day") String granularity,
+            @Parameter(description = "Data inicial (ISO 8601)", example = "2025-01-01") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Data final, inclusive (ISO 8601)", example = "2025-12-31") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Filtro por usuário") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Filtro por projeto") @RequestParam(required = false) Long projectId,
+            @Parameter(description = "Filtro por tarefa") @RequestParam(required = false) Long taskId
+    ) {
+        return ResponseEntity.ok(analyticsService.series(groupBy, granularity, from, to, userId, projectId, taskId));
+    }
+}
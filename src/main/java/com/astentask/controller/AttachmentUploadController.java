@@ -0,0 +1,169 @@
+package com.astentask.controller;
+
+import com.astentask.dtos.ErrorResponseDTO;
+import com.astentask.dtos.TaskAttachmentDTO;
+import com.astentask.dtos.UploadSessionDTO;
+import com.astentask.dtos.UploadSessionRequestDTO;
+import com.astentask.service.AttachmentUploadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/tasks/{taskId}/attachments/uploads")
+@RequiredArgsConstructor
+@Tag(name = "Uploads em partes", description = "Upload de anexos grandes em partes, com retomada após falhas.")
+public class AttachmentUploadController {
+
+    private final AttachmentUploadService uploadService;
+
+    @Operation(
+            summary = "Iniciar upload em partes",
+            description = "Cria uma sessão de upload para um arquivo de tamanho conhecido. As partes são enviadas depois, "
+                    + "por offset, e a sessão expira se ficar sem atividade.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Upload iniciado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = UploadSessionDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Dados inválidos ou arquivo acima do limite",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Tarefa não encontrada",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "413", description = "Cota de armazenamento do projeto excedida",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @PostMapping
+    public ResponseEntity<UploadSessionDTO> initiate(
+            @Parameter(description = "ID da tarefa", example = "1") @PathVariable Long taskId,
+            @Valid @RequestBody UploadSessionRequestDTO request,
+            Authentication authentication) throws IOException {
+        UploadSessionDTO session = uploadService.initiate(taskId, request, authentication.getName());
+        return ResponseEntity.created(URI.create("/api/tasks/" + taskId + "/attachments/uploads/" + session.getId()))
+                .body(session);
+    }
+
+    @Operation(
+            summary = "Enviar parte do arquivo",
+            description = "Grava o corpo da requisição (application/octet-stream) a partir do offset informado. Partes podem "
+                    + "ser reenviadas e chegar fora de ordem; cada parte tem no máximo maxChunkSize bytes.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Parte gravada; retorna os intervalos recebidos",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = UploadSessionDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Offset fora do arquivo ou parte maior que o permitido",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Upload não encontrado ou expirado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @PutMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<UploadSessionDTO> uploadChunk(
+            @Parameter(description = "ID da tarefa", example = "1") @PathVariable Long taskId,
+            @Parameter(description = "ID do upload") @PathVariable String uploadId,
+            @Parameter(description = "Posição da parte no arquivo, em bytes", example = "0") @RequestParam long offset,
+            InputStream content,
+            Authentication authentication) throws IOException {
+        return ResponseEntity.ok(uploadService.uploadChunk(taskId, uploadId, offset, content, authentication.getName()));
+    }
+
+    @Operation(
+            summary = "Consultar upload em partes",
+            description = "Retorna os intervalos já recebidos, para retomar o envio de onde parou.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Upload retornado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = UploadSessionDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Upload não encontrado ou expirado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<UploadSessionDTO> getUpload(
+            @Parameter(description = "ID da tarefa", example = "1") @PathVariable Long taskId,
+            @Parameter(description = "ID do upload") @PathVariable String uploadId,
+            Authentication authentication) {
+        return ResponseEntity.ok(uploadService.getSession(taskId, uploadId, authentication.getName()));
+    }
+
+    @Operation(
+            summary = "Concluir upload em partes",
+            description = "Cria o anexo a partir das partes recebidas. Todas as partes precisam ter chegado.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Anexo criado com sucesso",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = TaskAttachmentDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Upload incompleto",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Upload não encontrado ou expirado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "413", description = "Cota de armazenamento do projeto excedida",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<TaskAttachmentDTO> complete(
+            @Parameter(description = "ID da tarefa", example = "1") @PathVariable Long taskId,
+            @Parameter(description = "ID do upload") @PathVariable String uploadId,
+            Authentication authentication) throws IOException {
+        TaskAttachmentDTO attachment = uploadService.complete(taskId, uploadId, authentication.getName());
+        return ResponseEntity.status(HttpStatus.CREATED).body(attachment);
+    }
+
+    @Operation(
+            summary = "Cancelar upload em partes",
+            description = "Descarta a sessão e as partes já recebidas.",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Upload cancelado"),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Upload não encontrado ou expirado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> abort(
+            @Parameter(description = "ID da tarefa", example = "1") @PathVariable Long taskId,
+            @Parameter(description = "ID do upload") @PathVariable String uploadId,
+            Authentication authentication) {
+        uploadService.abort(taskId, uploadId, authentication.getName());
+        return ResponseEntity.noContent().build();
+    }
+}
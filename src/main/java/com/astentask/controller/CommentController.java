@@ -4,6 +4,8 @@ import com.astentask.dtos.CommentCreateDTO;
 import com.astentask.dtos.CommentDTO;
 import com.astentask.dtos.ErrorResponseDTO;
 import com.astentask.dtos.pages.PagedResponseDTOCommentDTO;
+import com.astentask.dtos.pages.SliceResponseDTO;
+import com.astentask.dtos.pages.SliceResponseDTOCommentDTO;
 import com.astentask.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -60,6 +62,39 @@ public class CommentController {
         return ResponseEntity.ok(commentService.listComments(taskId, page, size, sortBy, direction));
     }
 
+    @Operation(
+            summary = "Listar comentários da tarefa sem total",
+            description = "Ativado com withTotal=false. Retorna a página de comentários e hasNext, sem executar a consulta de contagem.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lista de comentários retornada com sucesso",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = SliceResponseDTOCommentDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @GetMapping(value = "/tasks/{taskId}/comments", params = "withTotal=false")
+    public ResponseEntity<SliceResponseDTO<CommentDTO>> listCommentsWithoutTotal(
+            @Parameter(description = "ID da tarefa para listar comentários", example = "1")
+            @PathVariable Long taskId,
+            @Parameter(description = "Desativa a contagem total", example = "false")
+            @RequestParam boolean withTotal,
+            @Parameter(description = "Número da página (0-index)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamanho da página", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Campo para ordenação", example = "createdAt")
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "Direção da ordenação (asc ou desc)", example = "desc")
+            @RequestParam(defaultValue = "desc") String direction) {
+
+        return ResponseEntity.ok(SliceResponseDTO.of(commentService.listCommentsSlice(taskId, page, size, sortBy, direction)));
+    }
+
     @Operation(
             summary = "Adicionar comentário à tarefa",
             description = "Adiciona um novo comentário a uma tarefa específica.",
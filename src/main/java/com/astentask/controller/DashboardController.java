@@ -4,6 +4,7 @@ import com.astentask.dtos.DashboardOverviewDTO;
 import com.astentask.dtos.ErrorResponseDTO;
 import com.astentask.dtos.ProjectReportDTO;
 import com.astentask.dtos.TaskSummaryDTO;
+import com.astentask.dtos.pages.CursorPageResponseDTO;
 import com.astentask.model.User;
 import com.astentask.service.DashboardService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -92,6 +93,53 @@ public class DashboardController {
         return ResponseEntity.ok(tasks);
     }
 
+    @Operation(
+            summary = "Listar minhas tarefas por cursor",
+            description = "Paginação por cursor (keyset) das tarefas do usuário logado, ativada com pagination=cursor. "
+                    + "Aceita os mesmos filtros da listagem paginada e devolve um nextCursor opaco para a próxima página. "
+                    + "Ordenação suportada: dueDate, createdAt, updatedAt, title ou id.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CursorPageResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Cursor, filtro ou campo de ordenação inválido",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            }
+    )
+    @GetMapping(value = "/my-tasks", params = "pagination=cursor")
+    public ResponseEntity<CursorPageResponseDTO<TaskSummaryDTO>> getMyTasksByCursor(
+            @Parameter(description = "Modo de paginação", example = "cursor") @RequestParam String pagination,
+            @Parameter(description = "Cursor retornado pela página anterior (vazio na primeira página)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Campo para ordenação") @RequestParam(defaultValue = "dueDate") String sortBy,
+            @Parameter(description = "Direção da ordenação (asc/desc)") @RequestParam(defaultValue = "asc") String direction,
+            @Parameter(description = "Filtro por status da tarefa") @RequestParam(required = false) String status,
+            @Parameter(description = "Filtro por prioridade da tarefa") @RequestParam(required = false) String priority,
+            @Parameter(description = "Data inicial para filtro de data de vencimento (ISO 8601)", example = "2025-08-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueDateStart,
+            @Parameter(description = "Data final para filtro de data de vencimento (ISO 8601)", example = "2025-08-31T23:59:59") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueDateEnd
+    ) {
+        User user = dashboardService.getLoggedUser();
+        CursorPageResponseDTO<TaskSummaryDTO> tasks = dashboardService.getMyTasksByCursor(
+                user.getId(),
+                size,
+                sortBy,
+                direction,
+                cursor,
+                Optional.ofNullable(status),
+                Optional.ofNullable(priority),
+                Optional.ofNullable(dueDateStart),
+                Optional.ofNullable(dueDateEnd)
+        );
+        return ResponseEntity.ok(tasks);
+    }
+
     @Operation(
             summary = "Relatório do projeto",
             description = "Retorna o relatório detalhado de um projeto específico.",
@@ -0,0 +1,118 @@
+package com.astentask.controller;
+
+import com.astentask.dtos.ErrorResponseDTO;
+import com.astentask.model.ExportFormat;
+import com.astentask.model.TaskPriority;
+import com.astentask.model.TaskStatus;
+import com.astentask.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Exportação", description = "Exportação em streaming de tarefas e registros de tempo.")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @Operation(summary = "Exportar tarefas de um projeto",
+            description = "Gera um arquivo CSV ou NDJSON com todas as tarefas do projeto que atendem aos filtros, com os mesmos "
+                    + "parâmetros da listagem. As linhas são lidas de um cursor do banco e enviadas à medida que são lidas.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Arquivo gerado",
+                            content = {@Content(mediaType = "text/csv"), @Content(mediaType = "application/x-ndjson")}),
+                    @ApiResponse(responseCode = "400", description = "Formato, termo de busca ou ordenação inválidos",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            })
+    @GetMapping("/projects/{projectId}/tasks/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "ID do projeto") @PathVariable Long projectId,
+            @Parameter(description = "Formato do arquivo (csv ou ndjson)") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Filtrar por título") @RequestParam(required = false) String title,
+            @Parameter(description = "Busca textual em título e descrição") @RequestParam(required = false) String q,
+            @Parameter(description = "Filtrar por status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filtrar por prioridade") @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Filtrar por ID do responsável") @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "Data inicial de criação (ISO)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startCreated,
+            @Parameter(description = "Data final de criação (ISO)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endCreated,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String direction
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        Sort sort = direction.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
+
+        StreamingResponseBody body = exportService.exportTasks(
+                projectId, title, q, status, priority, assigneeId, startCreated, endCreated, sort, exportFormat);
+        return attachment(body, exportFormat, "tarefas-projeto-" + projectId);
+    }
+
+    @Operation(summary = "Exportar registros de tempo de um projeto",
+            description = "Gera um arquivo CSV ou NDJSON com os registros de tempo de todas as tarefas do projeto, ordenados pela data de início, "
+                    + "com filtros opcionais por usuário e intervalo de datas.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Arquivo gerado",
+                            content = {@Content(mediaType = "text/csv"), @Content(mediaType = "application/x-ndjson")}),
+                    @ApiResponse(responseCode = "400", description = "Formato inválido",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            })
+    @GetMapping("/projects/{projectId}/timelogs/export")
+    public ResponseEntity<StreamingResponseBody> exportTimeLogs(
+            @Parameter(description = "ID do projeto") @PathVariable Long projectId,
+            @Parameter(description = "Formato do arquivo (csv ou ndjson)") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Filtrar por ID de usuário") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Data inicial (formato ISO)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "Data final (formato ISO)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = exportService.exportTimeLogs(projectId, userId, startDate, endDate, exportFormat);
+        return attachment(body, exportFormat, "registros-tempo-projeto-" + projectId);
+    }
+
+    private static ResponseEntity<StreamingResponseBody> attachment(StreamingResponseBody body, ExportFormat format, String name) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(name + "." + format.getExtension()).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,102 @@
+package com.astentask.controller;
+
+import com.astentask.dtos.AssigneeBreakdownReportDTO;
+import com.astentask.dtos.ErrorResponseDTO;
+import com.astentask.dtos.ProjectReportDTO;
+import com.astentask.dtos.ReportJobDTO;
+import com.astentask.dtos.ReportJobRequestDTO;
+import com.astentask.dtos.TimeLogSeriesDTO;
+import com.astentask.service.ReportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/reports/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Relatórios assíncronos", description = "Submissão e acompanhamento de relatórios executados em segundo plano.")
+public class ReportJobController {
+
+    private final ReportJobService reportJobService;
+
+    @Operation(summary = "Solicitar relatório",
+            description = "Enfileira um relatório e devolve o job para acompanhamento. Tipos: PROJECT_SUMMARY e ASSIGNEE_BREAKDOWN "
+                    + "(exigem projectId) e TIME_ANALYSIS (exige from e to; projectId e granularity opcionais). "
+                    + "Pedidos com os mesmos parâmetros reaproveitam a execução em andamento ou o resultado recente.",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Job criado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ReportJobDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Parâmetros inválidos",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "503", description = "Fila de relatórios cheia",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            })
+    @PostMapping
+    public ResponseEntity<ReportJobDTO> submit(@Valid @RequestBody ReportJobRequestDTO request, Authentication authentication) {
+        ReportJobDTO job = reportJobService.submit(request, authentication.getName());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/reports/jobs/" + job.getId()))
+                .body(job);
+    }
+
+    @Operation(summary = "Consultar job de relatório",
+            description = "Retorna o status do job: QUEUED, RUNNING, COMPLETED ou FAILED.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Status retornado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ReportJobDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Job não encontrado ou expirado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ReportJobDTO> getJob(
+            @Parameter(description = "ID do job") @PathVariable String jobId, Authentication authentication) {
+        return ResponseEntity.ok(reportJobService.getJob(jobId, authentication.getName()));
+    }
+
+    @Operation(summary = "Obter resultado do relatório",
+            description = "Retorna o relatório de um job concluído. O formato depende do tipo: ProjectReportDTO, "
+                    + "AssigneeBreakdownReportDTO ou TimeLogSeriesDTO.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Relatório retornado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(oneOf = {ProjectReportDTO.class, AssigneeBreakdownReportDTO.class, TimeLogSeriesDTO.class}))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Job não encontrado ou expirado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "409", description = "Relatório ainda em processamento ou com falha",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            })
+    @GetMapping("/{jobId}/result")
+    public ResponseEntity<Object> getResult(
+            @Parameter(description = "ID do job") @PathVariable String jobId, Authentication authentication) {
+        return ResponseEntity.ok(reportJobService.getResult(jobId, authentication.getName()));
+    }
+}
@@ -3,6 +3,7 @@ package com.astentask.controller;
 import com.astentask.dtos.ErrorResponseDTO;
 import com.astentask.dtos.TaskAttachmentDTO;
 import com.astentask.model.TaskAttachment;
+import com.astentask.service.AttachmentDownload;
 import com.astentask.service.TaskAttachmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,6 +13,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -46,6 +49,9 @@ public class TaskAttachmentController {
                     @ApiResponse(responseCode = "404", description = "Tarefa não encontrada",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "413", description = "Cota de armazenamento do projeto excedida",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
                     @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = ErrorResponseDTO.class)))
@@ -89,10 +95,20 @@ public class TaskAttachmentController {
 
     @Operation(
             summary = "Baixar anexo",
-            description = "Faz download do arquivo anexo pelo ID do anexo.",
+            description = "Faz download do arquivo anexo pelo ID do anexo. Aceita `Range` para baixar partes do arquivo "
+                    + "e `If-None-Match` com o `ETag` de um download anterior. Arquivos comprimidos no storage vão com "
+                    + "`Content-Encoding: deflate` quando o `Accept-Encoding` permite; senão são descomprimidos na resposta. "
+                    + "Para imagens, `variant=thumb` ou `variant=preview` devolve uma versão reduzida (o original, "
+                    + "enquanto ela ainda não foi gerada).",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Anexo baixado com sucesso",
                             content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE)),
+                    @ApiResponse(responseCode = "206", description = "Parte do anexo pedida no Range",
+                            content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE)),
+                    @ApiResponse(responseCode = "304", description = "Anexo não mudou desde o ETag informado"),
+                    @ApiResponse(responseCode = "400", description = "Variante inválida ou pedida para um anexo que não é imagem",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
                     @ApiResponse(responseCode = "403", description = "Acesso negado",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = ErrorResponseDTO.class))),
@@ -105,15 +121,32 @@ public class TaskAttachmentController {
             }
     )
     @GetMapping("/{attachmentId}")
-    public ResponseEntity<byte[]> downloadAttachment(
+    public ResponseEntity<Resource> downloadAttachment(
             @Parameter(description = "ID do anexo para download", example = "1")
-            @PathVariable Long attachmentId) {
+            @PathVariable Long attachmentId,
+            @Parameter(description = "Encodings aceitos pelo cliente; com deflate o arquivo comprimido vai sem descompressão",
+                    example = "gzip, deflate")
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(description = "Versão reduzida de imagens: thumb (256 px) ou preview (1024 px)", example = "thumb")
+            @RequestParam(required = false) String variant) {
         TaskAttachment attachment = attachmentService.getAttachment(attachmentId);
+        AttachmentDownload download = attachmentService.getDownload(attachment, acceptEncoding, variant);
+        String contentType = download.contentType() != null ? download.contentType() : attachment.getFileType();
 
-        return ResponseEntity.ok()
+        // Com ETag no ResponseEntity o Spring responde 304 ao If-None-Match sem escrever o corpo, e com um
+        // Resource de tamanho conhecido ele atende Range com 206 lendo só o trecho pedido.
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + attachment.getFilename() + "\"")
-                .contentType(MediaType.parseMediaType(attachment.getFileType()))
-                .body(attachment.getData());
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .eTag(download.eTag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(contentType != null
+                        ? MediaType.parseMediaType(contentType)
+                        : MediaType.APPLICATION_OCTET_STREAM);
+        if (download.contentEncoding() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, download.contentEncoding());
+        }
+        return response.body(download.resource());
     }
 
     @Operation(
@@ -1,9 +1,18 @@
 package com.astentask.controller;
 
+import com.astentask.dtos.BulkUpdateResultDTO;
 import com.astentask.dtos.ErrorResponseDTO;
+import com.astentask.dtos.TaskBulkAssignRequestDTO;
+import com.astentask.dtos.TaskBulkCreateRequestDTO;
+import com.astentask.dtos.TaskBulkCreateResponseDTO;
+import com.astentask.dtos.TaskBulkStatusRequestDTO;
 import com.astentask.dtos.TaskRequestDTO;
 import com.astentask.dtos.TaskResponseDTO;
+import com.astentask.dtos.pages.CursorPageResponseDTO;
+import com.astentask.dtos.pages.CursorPageResponseDTOTaskResponseDTO;
 import com.astentask.dtos.pages.PagedResponseDTO;
+import com.astentask.dtos.pages.SliceResponseDTO;
+import com.astentask.dtos.pages.SliceResponseDTOTaskResponseDTO;
 import com.astentask.model.TaskPriority;
 import com.astentask.model.TaskStatus;
 import com.astentask.service.TaskService;
@@ -32,11 +41,16 @@ public class TaskController {
     private final TaskService taskService;
 
     @Operation(summary = "Listar tarefas de um projeto",
-            description = "Retorna uma lista paginada de tarefas filtrando opcionalmente por título, status, prioridade, responsável e intervalo de datas.",
+            description = "Retorna uma lista paginada de tarefas filtrando opcionalmente por título, status, prioridade, responsável e intervalo de datas. "
+                    + "O parâmetro q faz busca textual indexada em título e descrição, por prefixo de cada palavra; "
+                    + "com sortBy=relevance os resultados vêm ordenados pela relevância da busca.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = PagedResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Termo de busca inválido ou ordenação por relevância sem q",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
                     @ApiResponse(responseCode = "403", description = "Acesso negado",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = ErrorResponseDTO.class))),
@@ -48,6 +62,7 @@ public class TaskController {
     public ResponseEntity<PagedResponseDTO<TaskResponseDTO>> listTasks(
             @Parameter(description = "ID do projeto") @PathVariable Long projectId,
             @Parameter(description = "Filtrar por título") @RequestParam(required = false) String title,
+            @Parameter(description = "Busca textual em título e descrição") @RequestParam(required = false) String q,
             @Parameter(description = "Filtrar por status") @RequestParam(required = false) TaskStatus status,
             @Parameter(description = "Filtrar por prioridade") @RequestParam(required = false) TaskPriority priority,
             @Parameter(description = "Filtrar por ID do responsável") @RequestParam(required = false) Long assigneeId,
@@ -63,7 +78,7 @@ public class TaskController {
         Sort sort = direction.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<TaskResponseDTO> resultPage = taskService.listTasks(projectId, title, status, priority, assigneeId, startCreated, endCreated, pageable);
+        Page<TaskResponseDTO> resultPage = taskService.listTasks(projectId, title, q, status, priority, assigneeId, startCreated, endCreated, pageable);
 
         return ResponseEntity.ok(new PagedResponseDTO<>(
                 resultPage.getContent(),
@@ -75,6 +90,90 @@ public class TaskController {
         ));
     }
 
+    @Operation(summary = "Listar tarefas de um projeto sem total",
+            description = "Ativado com withTotal=false. Aceita os mesmos filtros e ordenação da listagem paginada, mas não executa a "
+                    + "consulta de contagem: a resposta traz apenas o conteúdo da página e hasNext.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = SliceResponseDTOTaskResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Termo de busca inválido ou ordenação por relevância sem q",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            })
+    @GetMapping(value = "/projects/{projectId}/tasks", params = {"withTotal=false", "pagination!=cursor"})
+    public ResponseEntity<SliceResponseDTO<TaskResponseDTO>> listTasksWithoutTotal(
+            @Parameter(description = "ID do projeto") @PathVariable Long projectId,
+            @Parameter(description = "Desativa a contagem total", example = "false") @RequestParam boolean withTotal,
+            @Parameter(description = "Filtrar por título") @RequestParam(required = false) String title,
+            @Parameter(description = "Busca textual em título e descrição") @RequestParam(required = false) String q,
+            @Parameter(description = "Filtrar por status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filtrar por prioridade") @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Filtrar por ID do responsável") @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "Data inicial de criação (ISO)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startCreated,
+            @Parameter(description = "Data final de criação (ISO)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endCreated,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String direction
+    ) {
+        Sort sort = direction.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        return ResponseEntity.ok(SliceResponseDTO.of(
+                taskService.listTasksSlice(projectId, title, q, status, priority, assigneeId, startCreated, endCreated, pageable)));
+    }
+
+    @Operation(summary = "Listar tarefas de um projeto por cursor",
+            description = "Paginação por cursor (keyset), ativada com pagination=cursor. Aceita os mesmos filtros da listagem paginada, "
+                    + "não calcula o total de elementos e devolve um nextCursor opaco para a próxima página. "
+                    + "Ordenação suportada: createdAt, updatedAt, dueDate, title ou id. O parâmetro q atua apenas como filtro neste modo.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CursorPageResponseDTOTaskResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Cursor ou campo de ordenação inválido",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            })
+    @GetMapping(value = "/projects/{projectId}/tasks", params = "pagination=cursor")
+    public ResponseEntity<CursorPageResponseDTO<TaskResponseDTO>> listTasksByCursor(
+            @Parameter(description = "ID do projeto") @PathVariable Long projectId,
+            @Parameter(description = "Modo de paginação", example = "cursor") @RequestParam String pagination,
+            @Parameter(description = "Cursor retornado pela página anterior (vazio na primeira página)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Filtrar por título") @RequestParam(required = false) String title,
+            @Parameter(description = "Busca textual em título e descrição") @RequestParam(required = false) String q,
+            @Parameter(description = "Filtrar por status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filtrar por prioridade") @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Filtrar por ID do responsável") @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "Data inicial de criação (ISO)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startCreated,
+            @Parameter(description = "Data final de criação (ISO)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endCreated,
+            @Parameter(description = "Tamanho da página (1 a 100)") @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String direction
+    ) {
+        Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        return ResponseEntity.ok(taskService.listTasksByCursor(projectId, title, q, status, priority, assigneeId,
+                startCreated, endCreated, sortBy, sortDirection, cursor, size));
+    }
+
     @Operation(summary = "Buscar tarefa por ID",
             description = "Retorna os detalhes de uma tarefa específica.",
             responses = {
@@ -117,6 +216,36 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTask(projectId, dto));
     }
 
+    @Operation(summary = "Criar tarefas em massa",
+            description = "Cria várias tarefas em um projeto de uma só vez. Todo o lote é validado antes da gravação, "
+                    + "os responsáveis são carregados em uma única consulta e as linhas são inseridas em lotes JDBC. "
+                    + "Itens inválidos são rejeitados individualmente e reportados com sua posição.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Ao menos uma tarefa criada; veja o resultado de cada item",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = TaskBulkCreateResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Lote vazio, acima do limite ou sem nenhum item válido",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = TaskBulkCreateResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            })
+    @PostMapping("/projects/{projectId}/tasks/bulk")
+    public ResponseEntity<TaskBulkCreateResponseDTO> createTasksInBulk(
+            @Parameter(description = "ID do projeto") @PathVariable Long projectId,
+            @Valid @RequestBody TaskBulkCreateRequestDTO dto) {
+        TaskBulkCreateResponseDTO result = taskService.createTasksInBulk(projectId, dto.getTasks());
+        HttpStatus status = result.getCreated() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(result);
+    }
+
     @Operation(summary = "Atualizar tarefa",
             description = "Atualiza os dados de uma tarefa existente.",
             responses = {
@@ -206,4 +335,51 @@ public class TaskController {
             @Parameter(description = "ID do usuário a ser atribuído") @RequestParam Long userId) {
         return ResponseEntity.ok(taskService.assignUser(id, userId));
     }
+
+    @Operation(summary = "Atualizar status de tarefas em massa",
+            description = "Aplica um status a uma lista de tarefas (taskIds) ou a todas as tarefas de um filtro (filter) "
+                    + "com um único UPDATE no banco, sem limite de tarefas para o filtro. Informe apenas um dos dois.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Status aplicado; retorna a quantidade de tarefas alteradas",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = BulkUpdateResultDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Requisição inválida ou lista de ids acima do limite",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            })
+    @PutMapping("/tasks/bulk/status")
+    public ResponseEntity<BulkUpdateResultDTO> updateStatusInBulk(@Valid @RequestBody TaskBulkStatusRequestDTO dto) {
+        return ResponseEntity.ok(taskService.updateStatusInBulk(dto));
+    }
+
+    @Operation(summary = "Atribuir usuário a tarefas em massa",
+            description = "Define o responsável de uma lista de tarefas (taskIds) ou de todas as tarefas de um filtro (filter) "
+                    + "com um único UPDATE no banco, sem limite de tarefas para o filtro. Informe apenas um dos dois.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Usuário atribuído; retorna a quantidade de tarefas alteradas",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = BulkUpdateResultDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Requisição inválida ou lista de ids acima do limite",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Usuário não encontrado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            })
+    @PutMapping("/tasks/bulk/assign")
+    public ResponseEntity<BulkUpdateResultDTO> assignUserInBulk(@Valid @RequestBody TaskBulkAssignRequestDTO dto) {
+        return ResponseEntity.ok(taskService.assignUserInBulk(dto));
+    }
 }
@@ -4,6 +4,8 @@ import com.astentask.dtos.ErrorResponseDTO;
 import com.astentask.dtos.TimeLogCreateDTO;
 import com.astentask.dtos.TimeLogDTO;
 import com.astentask.dtos.pages.PagedResponseDTOTimeLogDTO;
+import com.astentask.dtos.pages.SliceResponseDTO;
+import com.astentask.dtos.pages.SliceResponseDTOTimeLogDTO;
 import com.astentask.service.TimeLogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -60,6 +62,36 @@ public class TimeLogController {
         return ResponseEntity.ok(timeLogService.listTimeLogs(taskId, page, size, sortBy, direction, userId, startDate, endDate));
     }
 
+    @Operation(summary = "Listar registros de tempo sem total",
+            description = "Ativado com withTotal=false. Aceita os mesmos filtros da listagem paginada e retorna a página e hasNext, "
+                    + "sem executar a consulta de contagem.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lista de registros de tempo retornada com sucesso",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = SliceResponseDTOTimeLogDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            })
+    @GetMapping(value = "/tasks/{taskId}/timelogs", params = "withTotal=false")
+    public ResponseEntity<SliceResponseDTO<TimeLogDTO>> listTimeLogsWithoutTotal(
+            @Parameter(description = "ID da tarefa", example = "1") @PathVariable Long taskId,
+            @Parameter(description = "Desativa a contagem total", example = "false") @RequestParam boolean withTotal,
+            @Parameter(description = "Número da página", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamanho da página", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Campo para ordenação", example = "startTime") @RequestParam(defaultValue = "startTime") String sortBy,
+            @Parameter(description = "Direção da ordenação (asc/desc)", example = "asc") @RequestParam(defaultValue = "asc") String direction,
+            @Parameter(description = "Filtrar por ID de usuário") @RequestParam Optional<Long> userId,
+            @Parameter(description = "Data inicial (formato ISO)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> startDate,
+            @Parameter(description = "Data final (formato ISO)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> endDate
+    ) {
+        return ResponseEntity.ok(SliceResponseDTO.of(
+                timeLogService.listTimeLogsSlice(taskId, page, size, sortBy, direction, userId, startDate, endDate)));
+    }
+
     @Operation(summary = "Adicionar registro de tempo",
             description = "Adiciona um novo registro de tempo a uma tarefa.",
             responses = {
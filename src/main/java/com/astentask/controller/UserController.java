@@ -5,6 +5,8 @@ import com.astentask.dtos.UserResponseDTO;
 import com.astentask.dtos.UserUpdateRequestDTO;
 import com.astentask.dtos.pages.PagedResponseDTO;
 import com.astentask.dtos.pages.PagedResponseDTOUserResponseDTO;
+import com.astentask.dtos.pages.SliceResponseDTO;
+import com.astentask.dtos.pages.SliceResponseDTOUserResponseDTO;
 import com.astentask.model.Role;
 import com.astentask.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -88,6 +90,35 @@ public class UserController {
         ));
     }
 
+    @Operation(summary = "Listar usuários sem total",
+            description = "Ativado com withTotal=false. Aceita os mesmos filtros e paginação da listagem de usuários e retorna a página "
+                    + "e hasNext, sem executar a consulta de contagem.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lista de usuários retornada com sucesso",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = SliceResponseDTOUserResponseDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class))),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class)))
+            })
+    @GetMapping(params = "withTotal=false")
+    public ResponseEntity<SliceResponseDTO<UserResponseDTO>> listUsersWithoutTotal(
+            @Parameter(description = "Desativa a contagem total", example = "false") @RequestParam boolean withTotal,
+            @Parameter(description = "Filtrar por nome") @RequestParam(required = false) String name,
+            @Parameter(description = "Filtrar por email") @RequestParam(required = false) String email,
+            @Parameter(description = "Filtar por papel") @RequestParam(required = false) Role role,
+            @Parameter(description = "Data inicial de criação (formato ISO)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "Data final de criação (formato ISO)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            Pageable pageable
+    ) {
+        return ResponseEntity.ok(SliceResponseDTO.of(userService.searchUsersSlice(name, email, role, startDate, endDate, pageable)));
+    }
+
     @Operation(summary = "Atualizar usuário",
             description = "Atualiza os dados de um usuário existente.",
             responses = {
@@ -0,0 +1,14 @@
+package com.astentask.dtos;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class AssigneeBreakdownReportDTO {
+    private Long projectId;
+    private String projectName;
+    private List<AssigneeReportDTO> assignees;
+}
@@ -0,0 +1,16 @@
+package com.astentask.dtos;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+public class AssigneeReportDTO {
+    private Long userId;
+    private String name;
+    private long totalTasks;
+    private Map<String, Long> tasksByStatus;
+    private long minutesLogged;
+}
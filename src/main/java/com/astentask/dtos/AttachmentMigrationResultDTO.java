@@ -0,0 +1,21 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentMigrationResultDTO {
+
+    @Schema(description = "Anexos movidos do banco para o storage", example = "120")
+    private long migrated;
+
+    @Schema(description = "Anexos que falharam e continuam no banco", example = "0")
+    private long failed;
+
+    @Schema(description = "Duração da migração em milissegundos", example = "5400")
+    private long elapsedMillis;
+}
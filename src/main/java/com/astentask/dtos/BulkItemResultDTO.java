@@ -0,0 +1,21 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResultDTO {
+
+    @Schema(description = "Posição do item na requisição (zero-based)", example = "0")
+    private int index;
+
+    @Schema(description = "ID gerado; nulo quando o item falhou", example = "42")
+    private Long id;
+
+    @Schema(description = "Motivo da falha; nulo quando o item foi criado", example = "title: Título é obrigatório")
+    private String error;
+}
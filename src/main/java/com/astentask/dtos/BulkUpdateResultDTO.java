@@ -0,0 +1,15 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateResultDTO {
+
+    @Schema(description = "Quantidade de tarefas alteradas", example = "120")
+    private int affected;
+}
@@ -0,0 +1,28 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CacheStatsDTO {
+
+    @Schema(description = "Nome do cache", example = "tasksSearch")
+    private String name;
+
+    @Schema(description = "Quantidade estimada de entradas", example = "120")
+    private long size;
+
+    @Schema(description = "Total de acertos (hits)", example = "950")
+    private long hitCount;
+
+    @Schema(description = "Total de falhas (misses)", example = "50")
+    private long missCount;
+
+    @Schema(description = "Taxa de acerto entre 0 e 1", example = "0.95")
+    private double hitRate;
+
+    @Schema(description = "Total de entradas removidas por tamanho/peso ou expiração", example = "10")
+    private long evictionCount;
+}
@@ -0,0 +1,18 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CounterReconcileResultDTO {
+
+    @Schema(description = "Quantidade de contadores que estavam divergentes e foram corrigidos", example = "0")
+    private long corrected;
+
+    @Schema(description = "Duração da reconciliação em milissegundos", example = "180")
+    private long elapsedMillis;
+}
@@ -3,6 +3,8 @@ package com.astentask.dtos;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.Map;
+
 @Data
 @Builder
 public class DashboardOverviewDTO {
@@ -10,5 +12,6 @@ public class DashboardOverviewDTO {
     private Long pendingTasks;
     private Long inProgressTasks;
     private Long completedTasks;
+    private Map<String, Long> tasksByStatus;
     private Long totalTimeLoggedMinutes;
 }
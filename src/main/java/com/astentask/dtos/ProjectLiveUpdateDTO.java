@@ -0,0 +1,19 @@
+package com.astentask.dtos;
+
+import com.astentask.live.LiveUpdateType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@Builder
+public class ProjectLiveUpdateDTO {
+    private Long projectId;
+    private Set<LiveUpdateType> types;
+    /** Tarefas alteradas desde a última mensagem; nulo quando são muitas e o quadro deve ser recarregado. */
+    private Set<Long> taskIds;
+    private boolean reload;
+    private Map<String, Long> counters;
+}
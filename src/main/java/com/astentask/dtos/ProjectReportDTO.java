@@ -3,6 +3,8 @@ package com.astentask.dtos;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.Map;
+
 @Data
 @Builder
 public class ProjectReportDTO {
@@ -12,5 +14,6 @@ public class ProjectReportDTO {
     private Long pendingTasks;
     private Long inProgressTasks;
     private Long completedTasks;
+    private Map<String, Long> tasksByStatus;
     private Long totalTimeLoggedMinutes;
 }
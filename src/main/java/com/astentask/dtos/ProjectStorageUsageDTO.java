@@ -0,0 +1,26 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStorageUsageDTO {
+
+    private Long projectId;
+
+    @Schema(description = "Soma do tamanho dos anexos do projeto, em bytes", example = "73400320")
+    private long usedBytes;
+
+    @Schema(description = "Quantidade de anexos do projeto", example = "42")
+    private long attachments;
+
+    @Schema(description = "Cota do projeto em bytes (a padrão, se o projeto não tiver uma própria)", example = "10737418240")
+    private long quotaBytes;
+
+    @Schema(description = "Indica se a cota é a padrão da aplicação", example = "true")
+    private boolean defaultQuota;
+}
@@ -0,0 +1,21 @@
+package com.astentask.dtos;
+
+import com.astentask.model.ReportJobStatus;
+import com.astentask.model.ReportType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class ReportJobDTO {
+    private String id;
+    private ReportType type;
+    private Long projectId;
+    private ReportJobStatus status;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -0,0 +1,32 @@
+package com.astentask.dtos;
+
+import com.astentask.model.ReportType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobRequestDTO {
+
+    @NotNull(message = "Tipo do relatório é obrigatório")
+    @Schema(description = "Tipo do relatório", example = "ASSIGNEE_BREAKDOWN")
+    private ReportType type;
+
+    @Schema(description = "Projeto do relatório (obrigatório exceto em TIME_ANALYSIS)", example = "1")
+    private Long projectId;
+
+    @Schema(description = "Data inicial (TIME_ANALYSIS)", example = "2025-01-01")
+    private LocalDate from;
+
+    @Schema(description = "Data final, inclusive (TIME_ANALYSIS)", example = "2025-06-30")
+    private LocalDate to;
+
+    @Schema(description = "Granularidade da análise de tempo: day ou week (TIME_ANALYSIS)", example = "week")
+    private String granularity;
+}
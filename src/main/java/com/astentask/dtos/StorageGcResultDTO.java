@@ -0,0 +1,21 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageGcResultDTO {
+
+    @Schema(description = "Conteúdos (blobs) sem nenhum anexo que foram removidos", example = "12")
+    private long blobsRemoved;
+
+    @Schema(description = "Arquivos do storage sem nenhuma referência no banco que foram removidos", example = "3")
+    private long filesRemoved;
+
+    @Schema(description = "Duração da coleta em milissegundos", example = "1800")
+    private long elapsedMillis;
+}
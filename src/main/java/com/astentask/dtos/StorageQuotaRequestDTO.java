@@ -0,0 +1,17 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageQuotaRequestDTO {
+
+    @PositiveOrZero(message = "A cota não pode ser negativa")
+    @Schema(description = "Cota do projeto em bytes; null volta para a cota padrão", example = "21474836480")
+    private Long quotaBytes;
+}
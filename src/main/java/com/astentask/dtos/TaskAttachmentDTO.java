@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -13,4 +15,7 @@ public class TaskAttachmentDTO {
     private Long id;
     private String filename;
     private String fileType;
+    private Long size;
+    private String checksum;
+    private LocalDateTime uploadedAt;
 }
@@ -0,0 +1,27 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkAssignRequestDTO {
+
+    @Schema(description = "IDs das tarefas; informe taskIds ou filter", example = "[1, 2, 3]")
+    private List<Long> taskIds;
+
+    @Schema(description = "Filtro das tarefas; informe taskIds ou filter")
+    @Valid
+    private TaskFilterDTO filter;
+
+    @Schema(description = "ID do novo responsável", example = "5")
+    @NotNull(message = "Usuário é obrigatório")
+    private Long userId;
+}
@@ -0,0 +1,19 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkCreateRequestDTO {
+
+    @Schema(description = "Tarefas a serem criadas; cada item é validado individualmente")
+    @NotEmpty(message = "Informe ao menos uma tarefa")
+    private List<TaskRequestDTO> tasks;
+}
@@ -0,0 +1,24 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class TaskBulkCreateResponseDTO {
+
+    @Schema(description = "Quantidade de itens recebidos", example = "5000")
+    private int requested;
+
+    @Schema(description = "Quantidade de tarefas criadas", example = "4998")
+    private int created;
+
+    @Schema(description = "Quantidade de itens rejeitados", example = "2")
+    private int failed;
+
+    @Schema(description = "Resultado de cada item, na ordem da requisição")
+    private List<BulkItemResultDTO> items;
+}
@@ -0,0 +1,28 @@
+package com.astentask.dtos;
+
+import com.astentask.model.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkStatusRequestDTO {
+
+    @Schema(description = "IDs das tarefas; informe taskIds ou filter", example = "[1, 2, 3]")
+    private List<Long> taskIds;
+
+    @Schema(description = "Filtro das tarefas; informe taskIds ou filter")
+    @Valid
+    private TaskFilterDTO filter;
+
+    @Schema(description = "Novo status", example = "COMPLETED")
+    @NotNull(message = "Status é obrigatório")
+    private TaskStatus status;
+}
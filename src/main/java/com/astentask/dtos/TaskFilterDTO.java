@@ -0,0 +1,39 @@
+package com.astentask.dtos;
+
+import com.astentask.model.TaskPriority;
+import com.astentask.model.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskFilterDTO {
+
+    @Schema(description = "Projeto das tarefas (obrigatório)", example = "1")
+    @NotNull(message = "Projeto é obrigatório no filtro")
+    private Long projectId;
+
+    @Schema(description = "Trecho do título", example = "login")
+    private String title;
+
+    private TaskStatus status;
+
+    private TaskPriority priority;
+
+    @Schema(description = "ID do responsável atual", example = "3")
+    private Long assigneeId;
+
+    @Schema(description = "Data inicial de criação (ISO)", example = "2025-08-01T00:00:00")
+    private LocalDateTime startCreated;
+
+    @Schema(description = "Data final de criação (ISO)", example = "2025-08-31T23:59:59")
+    private LocalDateTime endCreated;
+}
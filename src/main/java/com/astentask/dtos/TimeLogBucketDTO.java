@@ -0,0 +1,23 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeLogBucketDTO {
+
+    @Schema(description = "Primeiro dia do período (o próprio dia ou a segunda-feira da semana)", example = "2025-08-04")
+    private LocalDate periodStart;
+
+    @Schema(description = "ID do usuário, tarefa ou projeto, conforme groupBy", example = "3")
+    private Long groupId;
+
+    @Schema(description = "Minutos registrados no período", example = "480")
+    private long minutes;
+}
@@ -0,0 +1,20 @@
+package com.astentask.dtos;
+
+import com.astentask.model.TimeBucketGranularity;
+import com.astentask.model.TimeLogDimension;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class TimeLogSeriesDTO {
+    private TimeLogDimension groupBy;
+    private TimeBucketGranularity granularity;
+    private LocalDate from;
+    private LocalDate to;
+    private long totalMinutes;
+    private List<TimeLogBucketDTO> buckets;
+}
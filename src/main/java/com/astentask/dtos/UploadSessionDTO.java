@@ -0,0 +1,40 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionDTO {
+
+    @Schema(description = "ID do upload", example = "3f1c2a9e-6b1d-4c55-9a77-0d5e8b2f4c10")
+    private String id;
+
+    private Long taskId;
+
+    private String filename;
+
+    private String fileType;
+
+    @Schema(description = "Tamanho total do arquivo em bytes", example = "524288000")
+    private long size;
+
+    @Schema(description = "Bytes já recebidos", example = "104857600")
+    private long received;
+
+    @Schema(description = "Intervalos recebidos, inclusivos, como no Content-Range", example = "[\"0-104857599\"]")
+    private List<String> receivedRanges;
+
+    @Schema(description = "Tamanho máximo de cada parte em bytes", example = "16777216")
+    private long maxChunkSize;
+
+    private LocalDateTime expiresAt;
+}
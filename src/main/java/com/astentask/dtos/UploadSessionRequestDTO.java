@@ -0,0 +1,27 @@
+package com.astentask.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionRequestDTO {
+
+    @NotBlank(message = "Nome do arquivo é obrigatório")
+    @Schema(description = "Nome do arquivo", example = "logs-producao.tar")
+    private String filename;
+
+    @Schema(description = "Tipo do arquivo", example = "application/x-tar")
+    private String fileType;
+
+    @NotNull(message = "Tamanho do arquivo é obrigatório")
+    @PositiveOrZero(message = "Tamanho do arquivo não pode ser negativo")
+    @Schema(description = "Tamanho total do arquivo em bytes", example = "524288000")
+    private Long size;
+}
@@ -0,0 +1,28 @@
+package com.astentask.dtos.pages;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resposta paginada por cursor (keyset), sem contagem total")
+public class CursorPageResponseDTO<T> {
+
+    @Schema(description = "Lista de itens da página")
+    private List<T> content;
+
+    @Schema(description = "Quantidade de itens retornados", example = "10")
+    private int size;
+
+    @Schema(description = "Cursor opaco para buscar a próxima página; nulo quando não há mais itens",
+            example = "Y3JlYXRlZEF0fERFU0N8NDJ8PTIwMjUtMDgtMDFUMTA6MDA6MDA")
+    private String nextCursor;
+
+    @Schema(description = "Indica se existe próxima página", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,8 @@
+package com.astentask.dtos.pages;
+
+import com.astentask.dtos.TaskResponseDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "CursorPageResponseTaskResponseDTO", description = "Resposta paginada por cursor com lista de TaskResponseDTO")
+public class CursorPageResponseDTOTaskResponseDTO extends CursorPageResponseDTO<TaskResponseDTO> {
+}
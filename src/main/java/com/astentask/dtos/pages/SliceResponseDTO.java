@@ -0,0 +1,32 @@
+package com.astentask.dtos.pages;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Fatia de resultados sem contagem total, para rolagem infinita")
+public class SliceResponseDTO<T> {
+
+    @Schema(description = "Lista de itens da página")
+    private List<T> content;
+
+    @Schema(description = "Número da página atual (zero-based)", example = "0")
+    private int pageNumber;
+
+    @Schema(description = "Tamanho da página", example = "10")
+    private int pageSize;
+
+    @Schema(description = "Indica se existe próxima página", example = "true")
+    private boolean hasNext;
+
+    public static <T> SliceResponseDTO<T> of(Slice<T> slice) {
+        return new SliceResponseDTO<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
@@ -0,0 +1,8 @@
+package com.astentask.dtos.pages;
+
+import com.astentask.dtos.CommentDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "SliceResponseCommentDTO", description = "Fatia sem contagem total com lista de CommentDTO")
+public class SliceResponseDTOCommentDTO extends SliceResponseDTO<CommentDTO> {
+}
@@ -0,0 +1,8 @@
+package com.astentask.dtos.pages;
+
+import com.astentask.dtos.TaskResponseDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "SliceResponseTaskResponseDTO", description = "Fatia sem contagem total com lista de TaskResponseDTO")
+public class SliceResponseDTOTaskResponseDTO extends SliceResponseDTO<TaskResponseDTO> {
+}
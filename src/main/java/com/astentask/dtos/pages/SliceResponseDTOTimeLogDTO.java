@@ -0,0 +1,8 @@
+package com.astentask.dtos.pages;
+
+import com.astentask.dtos.TimeLogDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "SliceResponseTimeLogDTO", description = "Fatia sem contagem total com lista de TimeLogDTO")
+public class SliceResponseDTOTimeLogDTO extends SliceResponseDTO<TimeLogDTO> {
+}
@@ -0,0 +1,8 @@
+package com.astentask.dtos.pages;
+
+import com.astentask.dtos.UserResponseDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "SliceResponseUserResponseDTO", description = "Fatia sem contagem total com lista de UserResponseDTO")
+public class SliceResponseDTOUserResponseDTO extends SliceResponseDTO<UserResponseDTO> {
+}
@@ -0,0 +1,16 @@
+package com.astentask.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Parâmetro da requisição inválido. Só esta exceção vira 400; uma {@link IllegalArgumentException} interna
+ * continua sendo erro do servidor.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
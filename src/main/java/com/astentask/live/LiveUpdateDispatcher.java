@@ -0,0 +1,117 @@
+package com.astentask.live;
+
+import com.astentask.dtos.ProjectLiveUpdateDTO;
+import com.astentask.model.CounterScope;
+import com.astentask.model.User;
+import com.astentask.repositories.UserRepository;
+import com.astentask.service.DashboardCounterService;
+import com.astentask.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Acumula as alterações confirmadas e as envia em lote a cada flush-interval-ms: cada projeto alterado gera no
+ * máximo uma mensagem em /topic/projects/{id} e cada usuário afetado um dashboard novo em /user/queue/dashboard,
+ * não importa quantas linhas mudaram. Projetos e usuários sem ninguém conectado são ignorados.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveUpdateDispatcher {
+
+    public static final String PROJECT_TOPIC = "/topic/projects/";
+    public static final String DASHBOARD_QUEUE = "/queue/dashboard";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final DashboardCounterService counterService;
+    private final DashboardService dashboardService;
+    private final UserRepository userRepository;
+
+    @Value("${astentask.live.max-task-ids:200}")
+    private int maxTaskIds;
+
+    private final Object lock = new Object();
+    private Map<Long, PendingProject> pendingProjects = new HashMap<>();
+    private Set<Long> pendingUsers = new HashSet<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(LiveUpdateEvent event) {
+        synchronized (lock) {
+            PendingProject project = pendingProjects.computeIfAbsent(event.projectId(), id -> new PendingProject());
+            project.types.add(event.type());
+            if (!project.overflow) {
+                project.taskIds.addAll(event.taskIds());
+                project.overflow = project.taskIds.size() > maxTaskIds;
+            }
+            pendingUsers.addAll(event.userIds());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${astentask.live.flush-interval-ms:500}")
+    public void flush() {
+        Map<Long, PendingProject> projects;
+        Set<Long> users;
+        synchronized (lock) {
+            if (pendingProjects.isEmpty() && pendingUsers.isEmpty()) {
+                return;
+            }
+            projects = pendingProjects;
+            users = pendingUsers;
+            pendingProjects = new HashMap<>();
+            pendingUsers = new HashSet<>();
+        }
+
+        projects.forEach(this::sendProject);
+        if (!users.isEmpty()) {
+            userRepository.findAllById(users).forEach(this::sendDashboard);
+        }
+    }
+
+    private void sendProject(Long projectId, PendingProject changes) {
+        String destination = PROJECT_TOPIC + projectId;
+        if (userRegistry.findSubscriptions(subscription -> destination.equals(subscription.getDestination())).isEmpty()) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend(destination, ProjectLiveUpdateDTO.builder()
+                    .projectId(projectId)
+                    .types(changes.types)
+                    .taskIds(changes.overflow ? null : changes.taskIds)
+                    .reload(changes.overflow)
+                    .counters(counterService.countersFor(CounterScope.PROJECT, projectId))
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("Falha ao enviar atualização do projeto {}: {}", projectId, e.getMessage());
+        }
+    }
+
+    private void sendDashboard(User user) {
+        if (userRegistry.getUser(user.getEmail()) == null) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSendToUser(user.getEmail(), DASHBOARD_QUEUE, dashboardService.getOverview(user.getId()));
+        } catch (RuntimeException e) {
+            log.warn("Falha ao enviar dashboard do usuário {}: {}", user.getId(), e.getMessage());
+        }
+    }
+
+    private static final class PendingProject {
+        private final Set<LiveUpdateType> types = EnumSet.noneOf(LiveUpdateType.class);
+        private final Set<Long> taskIds = new HashSet<>();
+        private boolean overflow;
+    }
+}
@@ -0,0 +1,10 @@
+package com.astentask.live;
+
+import java.util.Set;
+
+/**
+ * Alteração em um projeto que deve ser avisada aos clientes conectados. userIds são os usuários cujos
+ * contadores do dashboard mudaram (responsáveis antes e depois, ou quem registrou o tempo).
+ */
+public record LiveUpdateEvent(LiveUpdateType type, Long projectId, Set<Long> taskIds, Set<Long> userIds) {
+}
@@ -0,0 +1,49 @@
+package com.astentask.live;
+
+import com.astentask.repositories.TaskRef;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Publica as alterações dos serviços como {@link LiveUpdateEvent}. Os eventos só são entregues aos clientes
+ * depois do commit, pelo {@link LiveUpdateDispatcher}.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveUpdatePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Um evento por projeto, com todas as tarefas alteradas nele.
+     */
+    public void tasksChanged(Collection<TaskRef> before, Collection<TaskRef> after) {
+        Map<Long, Set<Long>> taskIds = new LinkedHashMap<>();
+        Map<Long, Set<Long>> userIds = new LinkedHashMap<>();
+        Stream.concat(before.stream(), after.stream()).forEach(task -> {
+            taskIds.computeIfAbsent(task.getProjectId(), id -> new HashSet<>()).add(task.getId());
+            Set<Long> users = userIds.computeIfAbsent(task.getProjectId(), id -> new HashSet<>());
+            if (task.getAssigneeId() != null) {
+                users.add(task.getAssigneeId());
+            }
+        });
+        taskIds.forEach((projectId, ids) ->
+                eventPublisher.publishEvent(new LiveUpdateEvent(LiveUpdateType.TASKS, projectId, ids, userIds.get(projectId))));
+    }
+
+    public void commentsChanged(Long projectId, Long taskId) {
+        eventPublisher.publishEvent(new LiveUpdateEvent(LiveUpdateType.COMMENTS, projectId, Set.of(taskId), Set.of()));
+    }
+
+    public void timeLogged(Long projectId, Long taskId, Long userId) {
+        eventPublisher.publishEvent(new LiveUpdateEvent(LiveUpdateType.TIME_LOGS, projectId, Set.of(taskId), Set.of(userId)));
+    }
+}
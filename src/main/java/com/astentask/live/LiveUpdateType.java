@@ -0,0 +1,7 @@
+package com.astentask.live;
+
+public enum LiveUpdateType {
+    TASKS,
+    COMMENTS,
+    TIME_LOGS
+}
@@ -0,0 +1,51 @@
+package com.astentask.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Upload de anexo em partes ainda não concluído. A tarefa é referenciada só pelo id: a sessão expira sozinha
+ * e a tarefa é conferida de novo na conclusão.
+ */
+@Entity
+@Table(name = "attachment_upload_sessions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttachmentUploadSession {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    /** E-mail de quem iniciou o upload; só essa pessoa pode continuar. */
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(nullable = false)
+    private String filename;
+
+    private String fileType;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long size;
+
+    /** Intervalos recebidos, inclusivos e ordenados: "0-1048575,2097152-3145727". */
+    @Column(name = "received_ranges", nullable = false, columnDefinition = "TEXT")
+    private String receivedRanges;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
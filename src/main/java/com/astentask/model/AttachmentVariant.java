@@ -0,0 +1,26 @@
+package com.astentask.model;
+
+import com.astentask.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Versões reduzidas de imagens anexadas, geradas em segundo plano. {@code maxDimension} é o maior lado,
+ * em pixels, da imagem gerada.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AttachmentVariant {
+    THUMB(256),
+    PREVIEW(1024);
+
+    private final int maxDimension;
+
+    public static AttachmentVariant from(String value) {
+        try {
+            return AttachmentVariant.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Variante de anexo inválida: " + value);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.astentask.model;
+
+public enum ReportType {
+    PROJECT_SUMMARY,
+    ASSIGNEE_BREAKDOWN,
+    TIME_ANALYSIS
+}
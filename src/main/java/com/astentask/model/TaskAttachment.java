@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Data
 @NoArgsConstructor
@@ -21,11 +23,31 @@ public class TaskAttachment {
 
     private String fileType;
 
-    @Basic(fetch = FetchType.LAZY)
-    @Column(name = "data", columnDefinition="bytea")
-    private byte[] data;
+    /** Chave do conteúdo no AttachmentStorage. */
+    @Column(name = "storage_key")
+    private String storageKey;
+
+    /** Encoding do conteúdo no storage ("deflate"), ou null quando gravado sem compressão. */
+    @Column(name = "content_encoding", length = 16)
+    private String contentEncoding;
+
+    @Column(name = "size_bytes")
+    private Long size;
+
+    /** SHA-256 do conteúdo, em hexadecimal. */
+    @Column(length = 64)
+    private String checksum;
+
+    private LocalDateTime uploadedAt;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
+
+    @PrePersist
+    public void prePersist() {
+        if (uploadedAt == null) {
+            uploadedAt = LocalDateTime.now();
+        }
+    }
 }
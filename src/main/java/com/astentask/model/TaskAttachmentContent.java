@@ -0,0 +1,25 @@
+package com.astentask.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Conteúdo de anexos antigos, gravados no banco antes do AttachmentStorage. Fica fora de
+ * {@link TaskAttachment} para que carregar os metadados nunca traga os bytes.
+ */
+@Entity
+@Table(name = "task_attachment_content")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAttachmentContent {
+
+    @Id
+    @Column(name = "attachment_id")
+    private Long attachmentId;
+
+    @Column(name = "data", columnDefinition = "bytea", nullable = false)
+    private byte[] data;
+}
@@ -0,0 +1,6 @@
+package com.astentask.model;
+
+public enum TimeBucketGranularity {
+    DAY,
+    WEEK
+}
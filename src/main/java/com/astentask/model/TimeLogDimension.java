@@ -0,0 +1,7 @@
+package com.astentask.model;
+
+public enum TimeLogDimension {
+    USER,
+    TASK,
+    PROJECT
+}
@@ -0,0 +1,121 @@
+package com.astentask.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Acesso à tabela attachment_blobs. As duas operações travam a linha do checksum até o fim da transação, então
+ * um upload concorrente do mesmo conteúdo nunca reaproveita uma chave cuja última referência está sendo removida.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttachmentBlobRepository {
+
+    private static final String ACQUIRE_SQL = """
+            INSERT INTO attachment_blobs (checksum, storage_key, size_bytes, content_encoding, ref_count)
+            VALUES (?, ?, ?, ?, 1)
+            ON CONFLICT (checksum) DO UPDATE SET ref_count = attachment_blobs.ref_count + 1
+            RETURNING storage_key, content_encoding
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE attachment_blobs SET ref_count = ref_count - 1 WHERE checksum = ?
+            RETURNING ref_count, storage_key
+            """;
+
+    private static final String LOCK_SQL = "SELECT checksum FROM attachment_blobs WHERE checksum = ? FOR UPDATE";
+
+    private static final String DELETE_DERIVATIVES_SQL =
+            "DELETE FROM attachment_derivatives WHERE checksum = ? RETURNING storage_key";
+
+    private static final String DELETE_SQL = "DELETE FROM attachment_blobs WHERE checksum = ? AND ref_count = 0";
+
+    private static final String LOCK_ORPHANS_SQL = """
+            SELECT b.checksum FROM attachment_blobs b
+            WHERE b.created_at < ?
+              AND NOT EXISTS (SELECT 1 FROM task_attachment a WHERE a.checksum = b.checksum)
+            ORDER BY b.checksum
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE_ORPHAN_SQL =
+            "DELETE FROM attachment_blobs WHERE checksum = ? RETURNING storage_key";
+
+    private static final String UNREFERENCED_SQL = """
+            SELECT k.key FROM (VALUES %s) AS k (key)
+            WHERE NOT EXISTS (SELECT 1 FROM task_attachment a WHERE a.storage_key = k.key)
+              AND NOT EXISTS (SELECT 1 FROM attachment_blobs b WHERE b.storage_key = k.key)
+              AND NOT EXISTS (SELECT 1 FROM attachment_derivatives d WHERE d.storage_key = k.key)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Registra mais uma referência ao conteúdo e devolve o blob que deve ser usado: o já existente para o
+     * checksum ou, se o conteúdo é novo, o informado. {@code size} é o tamanho gravado no storage.
+     */
+    public Blob acquire(String checksum, String storageKey, long size, String contentEncoding) {
+        return jdbcTemplate.queryForObject(ACQUIRE_SQL,
+                (rs, rowNum) -> new Blob(rs.getString("storage_key"), rs.getString("content_encoding")),
+                checksum, storageKey, size, contentEncoding);
+    }
+
+    /**
+     * Remove uma referência ao conteúdo. Quando era a última, remove também as variantes geradas
+     * ({@code attachment_derivatives}) e devolve as chaves de tudo que deve ser apagado do storage.
+     */
+    public List<String> release(String checksum) {
+        List<String> released = jdbcTemplate.query(RELEASE_SQL,
+                (rs, rowNum) -> rs.getInt("ref_count") == 0 ? rs.getString("storage_key") : null, checksum);
+        if (released.isEmpty() || released.get(0) == null) {
+            return List.of();
+        }
+        // FOR UPDATE bloqueia o registro de novas variantes (a FK trava a linha em KEY SHARE) até o commit.
+        jdbcTemplate.queryForList(LOCK_SQL, String.class, checksum);
+        List<String> keys = new ArrayList<>(released);
+        keys.addAll(jdbcTemplate.queryForList(DELETE_DERIVATIVES_SQL, String.class, checksum));
+        jdbcTemplate.update(DELETE_SQL, checksum);
+        return keys;
+    }
+
+    /**
+     * Trava até {@code limit} blobs criados antes de {@code createdBefore} que nenhum anexo usa mais. Linhas já
+     * travadas (um upload reaproveitando o conteúdo, outra instância coletando) são puladas.
+     */
+    public List<String> lockOrphans(LocalDateTime createdBefore, int limit) {
+        return jdbcTemplate.queryForList(LOCK_ORPHANS_SQL, String.class, createdBefore, limit);
+    }
+
+    /**
+     * Remove um blob travado por {@link #lockOrphans} e as suas variantes, devolvendo as chaves a apagar do storage.
+     */
+    public List<String> deleteOrphan(String checksum) {
+        List<String> keys = new ArrayList<>(jdbcTemplate.queryForList(DELETE_DERIVATIVES_SQL, String.class, checksum));
+        keys.addAll(jdbcTemplate.queryForList(DELETE_ORPHAN_SQL, String.class, checksum));
+        return keys;
+    }
+
+    /**
+     * Das chaves informadas, as que não aparecem em nenhum anexo, blob ou variante.
+     */
+    public List<String> findUnreferenced(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        String values = String.join(", ", Collections.nCopies(keys.size(), "(?)"));
+        return jdbcTemplate.queryForList(UNREFERENCED_SQL.formatted(values), String.class, keys.toArray());
+    }
+
+    /**
+     * Arquivo gravado no storage para um checksum e o encoding com que foi gravado.
+     */
+    public record Blob(String storageKey, String contentEncoding) {
+    }
+}
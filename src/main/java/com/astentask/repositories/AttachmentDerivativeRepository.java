@@ -0,0 +1,58 @@
+package com.astentask.repositories;
+
+import com.astentask.model.AttachmentVariant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Acesso à tabela attachment_derivatives. A remoção acontece junto com o blob, em
+ * {@link AttachmentBlobRepository#release}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttachmentDerivativeRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO attachment_derivatives (checksum, variant, storage_key, content_type, size_bytes)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (checksum, variant) DO NOTHING
+            """;
+
+    private static final String FIND_SQL =
+            "SELECT storage_key, content_type, size_bytes FROM attachment_derivatives WHERE checksum = ? AND variant = ?";
+
+    private static final String VARIANTS_SQL = "SELECT variant FROM attachment_derivatives WHERE checksum = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Derivative> find(String checksum, AttachmentVariant variant) {
+        return jdbcTemplate.query(FIND_SQL,
+                        (rs, rowNum) -> new Derivative(
+                                rs.getString("storage_key"), rs.getString("content_type"), rs.getLong("size_bytes")),
+                        checksum, variant.name())
+                .stream()
+                .findFirst();
+    }
+
+    public List<AttachmentVariant> findVariants(String checksum) {
+        return jdbcTemplate.queryForList(VARIANTS_SQL, String.class, checksum).stream()
+                .map(AttachmentVariant::valueOf)
+                .toList();
+    }
+
+    /**
+     * Registra a variante gerada. Devolve false se outra geração já registrou a mesma variante; lança
+     * DataIntegrityViolationException se o blob foi removido enquanto a variante era gerada.
+     */
+    public boolean insert(String checksum, AttachmentVariant variant, Derivative derivative) {
+        return jdbcTemplate.update(INSERT_SQL, checksum, variant.name(),
+                derivative.storageKey(), derivative.contentType(), derivative.size()) > 0;
+    }
+
+    public record Derivative(String storageKey, String contentType, long size) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.astentask.repositories;
+
+import com.astentask.model.AttachmentUploadSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface AttachmentUploadSessionRepository extends JpaRepository<AttachmentUploadSession, String>,
+        UploadSessionCleanupRepository {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AttachmentUploadSession s WHERE s.id = :id")
+    Optional<AttachmentUploadSession> findForUpdate(@Param("id") String id);
+}
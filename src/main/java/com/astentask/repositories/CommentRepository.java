@@ -3,8 +3,11 @@ package com.astentask.repositories;
 import com.astentask.model.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     Page<Comment> findByTaskId(Long taskId, Pageable pageable);
+
+    Slice<Comment> findSliceByTaskId(Long taskId, Pageable pageable);
 }
@@ -0,0 +1,22 @@
+package com.astentask.repositories;
+
+import com.astentask.model.CounterScope;
+
+import java.util.Comparator;
+
+/**
+ * Chave de um contador do dashboard. A ordem natural é usada para gravar os contadores sempre na mesma
+ * sequência, evitando deadlock entre transações que atualizam as mesmas linhas.
+ */
+public record DashboardCounterKey(CounterScope scope, Long scopeId, String metric) implements Comparable<DashboardCounterKey> {
+
+    private static final Comparator<DashboardCounterKey> ORDER = Comparator
+            .comparing(DashboardCounterKey::scope)
+            .thenComparing(DashboardCounterKey::scopeId)
+            .thenComparing(DashboardCounterKey::metric);
+
+    @Override
+    public int compareTo(DashboardCounterKey other) {
+        return ORDER.compare(this, other);
+    }
+}
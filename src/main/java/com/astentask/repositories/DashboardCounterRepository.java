@@ -0,0 +1,103 @@
+package com.astentask.repositories;
+
+import com.astentask.model.CounterScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Acesso à tabela dashboard_counters (modelo de leitura do dashboard). Os incrementos são upserts
+ * relativos, então transações concorrentes somam seus deltas sem precisar ler o valor antes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DashboardCounterRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO dashboard_counters (scope, scope_id, metric, value) VALUES (?, ?, ?, ?)
+            ON CONFLICT (scope, scope_id, metric) DO UPDATE SET value = dashboard_counters.value + EXCLUDED.value
+            """;
+
+    private static final String SELECT_SQL = "SELECT metric, value FROM dashboard_counters WHERE scope = ? AND scope_id = ?";
+
+    /**
+     * Valores esperados calculados a partir de tasks e timelogs. Mantido igual ao backfill da migração V3.
+     */
+    private static final String EXPECTED_SQL = """
+            SELECT 'PROJECT' AS scope, project_id AS scope_id, 'TASKS_TOTAL' AS metric, COUNT(*) AS value
+            FROM tasks GROUP BY project_id
+            UNION ALL
+            SELECT 'PROJECT', project_id, 'TASKS_' || status, COUNT(*)
+            FROM tasks WHERE status IS NOT NULL GROUP BY project_id, status
+            UNION ALL
+            SELECT 'USER', assignee_id, 'TASKS_TOTAL', COUNT(*)
+            FROM tasks WHERE assignee_id IS NOT NULL GROUP BY assignee_id
+            UNION ALL
+            SELECT 'USER', assignee_id, 'TASKS_' || status, COUNT(*)
+            FROM tasks WHERE assignee_id IS NOT NULL AND status IS NOT NULL GROUP BY assignee_id, status
+            UNION ALL
+            SELECT 'USER', user_id, 'MINUTES_LOGGED', COALESCE(SUM(duration_in_minutes), 0)
+            FROM timelogs GROUP BY user_id
+            UNION ALL
+            SELECT 'PROJECT', t.project_id, 'MINUTES_LOGGED', COALESCE(SUM(l.duration_in_minutes), 0)
+            FROM timelogs l JOIN tasks t ON t.id = l.task_id GROUP BY t.project_id
+            """;
+
+    private static final String RECONCILE_SQL = "WITH expected AS (" + EXPECTED_SQL + """
+            ),
+            corrected AS (
+                INSERT INTO dashboard_counters (scope, scope_id, metric, value)
+                SELECT scope, scope_id, metric, value FROM expected
+                ON CONFLICT (scope, scope_id, metric) DO UPDATE SET value = EXCLUDED.value
+                WHERE dashboard_counters.value <> EXCLUDED.value
+                RETURNING 1
+            ),
+            removed AS (
+                DELETE FROM dashboard_counters c
+                WHERE NOT EXISTS (SELECT 1 FROM expected e
+                                  WHERE e.scope = c.scope AND e.scope_id = c.scope_id AND e.metric = c.metric)
+                RETURNING c.value
+            )
+            SELECT (SELECT COUNT(*) FROM corrected) + (SELECT COUNT(*) FROM removed WHERE value <> 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addAll(SortedMap<DashboardCounterKey, Long> deltas) {
+        List<Object[]> rows = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0L)
+                .map(entry -> new Object[]{
+                        entry.getKey().scope().name(), entry.getKey().scopeId(), entry.getKey().metric(), entry.getValue()})
+                .toList();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        }
+    }
+
+    public Map<String, Long> findByScope(CounterScope scope, Long scopeId) {
+        Map<String, Long> values = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL,
+                (RowCallbackHandler) rs -> values.put(rs.getString("metric"), rs.getLong("value")),
+                scope.name(), scopeId);
+        return values;
+    }
+
+    /**
+     * Recalcula todos os contadores a partir das tabelas de origem e corrige os divergentes.
+     * Deve rodar em transação: o lock exclusivo segura os incrementos concorrentes até o commit,
+     * para que nenhum delta seja aplicado sobre um valor recalculado sem ele ou contado duas vezes.
+     *
+     * @return quantidade de contadores que estavam divergentes
+     */
+    public long reconcile() {
+        jdbcTemplate.execute("LOCK TABLE dashboard_counters IN EXCLUSIVE MODE");
+        Long drifted = jdbcTemplate.queryForObject(RECONCILE_SQL, Long.class);
+        return drifted != null ? drifted : 0L;
+    }
+}
@@ -2,11 +2,29 @@ package com.astentask.repositories;
 
 import com.astentask.model.Project;
 import com.astentask.model.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project> {
+
+    /**
+     * O ProjectResponseDTO inclui os dados do dono; o graph evita um SELECT extra por projeto da página.
+     */
+    @Override
+    @EntityGraph(attributePaths = "owner")
+    Page<Project> findAll(Specification<Project> spec, Pageable pageable);
+
     List<Project> findByOwner(User owner);
+
+    @Query("SELECT p.name FROM Project p WHERE p.id = :id")
+    Optional<String> findNameById(@Param("id") Long id);
 }
@@ -0,0 +1,68 @@
+package com.astentask.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Acesso à tabela project_storage_usage. Os incrementos são UPDATEs relativos, como em
+ * {@link DashboardCounterRepository}; o de upload só é aplicado se couber na cota.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectStorageUsageRepository {
+
+    private static final String ENSURE_SQL =
+            "INSERT INTO project_storage_usage (project_id) VALUES (?) ON CONFLICT (project_id) DO NOTHING";
+
+    private static final String ADD_SQL = """
+            UPDATE project_storage_usage SET used_bytes = used_bytes + ?, attachments = attachments + 1
+            WHERE project_id = ? AND used_bytes + ? <= COALESCE(quota_bytes, ?)
+            """;
+
+    private static final String REMOVE_SQL = """
+            UPDATE project_storage_usage
+            SET used_bytes = GREATEST(used_bytes - ?, 0), attachments = GREATEST(attachments - 1, 0)
+            WHERE project_id = ?
+            """;
+
+    private static final String SET_QUOTA_SQL = """
+            INSERT INTO project_storage_usage (project_id, quota_bytes) VALUES (?, ?)
+            ON CONFLICT (project_id) DO UPDATE SET quota_bytes = EXCLUDED.quota_bytes
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Usage> find(Long projectId) {
+        return jdbcTemplate.query(
+                        "SELECT used_bytes, attachments, quota_bytes FROM project_storage_usage WHERE project_id = ?",
+                        (rs, rowNum) -> new Usage(rs.getLong("used_bytes"), rs.getLong("attachments"),
+                                rs.getObject("quota_bytes", Long.class)),
+                        projectId)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Soma um anexo de {@code bytes} ao projeto se o total continuar dentro da cota do projeto (ou de
+     * {@code defaultQuota}, quando o projeto não tem cota própria). Devolve false quando não cabe.
+     * A linha fica travada até o fim da transação.
+     */
+    public boolean add(Long projectId, long bytes, long defaultQuota) {
+        jdbcTemplate.update(ENSURE_SQL, projectId);
+        return jdbcTemplate.update(ADD_SQL, bytes, projectId, bytes, defaultQuota) > 0;
+    }
+
+    public void remove(Long projectId, long bytes) {
+        jdbcTemplate.update(REMOVE_SQL, bytes, projectId);
+    }
+
+    public void setQuota(Long projectId, Long quotaBytes) {
+        jdbcTemplate.update(SET_QUOTA_SQL, projectId, quotaBytes);
+    }
+
+    public record Usage(long usedBytes, long attachments, Long quotaBytes) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.astentask.repositories;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Lê o resultado de uma specification como {@link Stream}, sobre um cursor do banco com o fetch size informado.
+ * O PostgreSQL só usa cursor dentro de uma transação; o stream precisa ser consumido e fechado nela.
+ * As entidades vêm somente leitura e quem consome deve desanexá-las para manter o contexto de persistência pequeno.
+ */
+@Component
+@RequiredArgsConstructor
+public class SpecificationStreamExecutor {
+
+    private final EntityManager entityManager;
+
+    public <T> Stream<T> stream(Class<T> type, Specification<T> spec, Sort sort, int fetchSize, String... fetchAttributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+        query.select(root);
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        TypedQuery<T> typedQuery = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (fetchAttributes.length > 0) {
+            EntityGraph<T> graph = entityManager.createEntityGraph(type);
+            graph.addAttributeNodes(fetchAttributes);
+            typedQuery.setHint("jakarta.persistence.fetchgraph", graph);
+        }
+        return typedQuery.getResultStream();
+    }
+}
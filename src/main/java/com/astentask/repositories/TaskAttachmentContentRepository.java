@@ -0,0 +1,7 @@
+package com.astentask.repositories;
+
+import com.astentask.model.TaskAttachmentContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TaskAttachmentContentRepository extends JpaRepository<TaskAttachmentContent, Long> {
+}
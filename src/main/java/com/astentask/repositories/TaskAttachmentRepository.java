@@ -1,10 +1,18 @@
 package com.astentask.repositories;
 
+import com.astentask.dtos.TaskAttachmentDTO;
 import com.astentask.model.TaskAttachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface TaskAttachmentRepository extends JpaRepository<TaskAttachment, Long> {
-    List<TaskAttachment> findByTaskId(Long id);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.astentask.dtos.TaskAttachmentDTO(a.id, a.filename, a.fileType, a.size, a.checksum, a.uploadedAt) " +
+            "FROM TaskAttachment a WHERE a.task.id = :taskId ORDER BY a.id")
+    List<TaskAttachmentDTO> findMetadataByTaskId(@Param("taskId") Long taskId);
+
+    List<TaskAttachment> findAllByTaskId(Long taskId);
+}
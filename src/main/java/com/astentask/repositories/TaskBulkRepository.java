@@ -0,0 +1,30 @@
+package com.astentask.repositories;
+
+import com.astentask.dtos.TaskFilterDTO;
+import com.astentask.model.Task;
+import com.astentask.model.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TaskBulkRepository {
+
+    /**
+     * Insere as tarefas em lotes JDBC e devolve os IDs gerados na mesma ordem da lista.
+     * Não passa pelo ciclo de vida do Hibernate: as tarefas não ficam gerenciadas.
+     */
+    List<Long> insertAll(List<Task> tasks);
+
+    /**
+     * Conta as tarefas da specification agrupadas por status e prioridade, sem carregar entidades.
+     */
+    List<TaskStatusPriorityCount> countByStatusAndPriority(Specification<Task> spec);
+
+    /**
+     * Executa um único UPDATE nas tarefas dos ids ou do filtro (um dos dois) e devolve cada tarefa alterada
+     * com o estado anterior ao UPDATE. Entidades já carregadas no contexto de persistência não são atualizadas.
+     */
+    List<TaskRef> updateStatus(List<Long> ids, TaskFilterDTO filter, TaskStatus status);
+
+    List<TaskRef> updateAssignee(List<Long> ids, TaskFilterDTO filter, Long assigneeId);
+}
@@ -0,0 +1,185 @@
+package com.astentask.repositories;
+
+import com.astentask.dtos.TaskFilterDTO;
+import com.astentask.model.Task;
+import com.astentask.model.TaskPriority;
+import com.astentask.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Operações em massa sobre tarefas. Tarefas usam {@code GenerationType.IDENTITY}, o que impede o
+ * Hibernate de agrupar inserts; por isso a criação em massa vai direto ao JDBC, reaproveitando a
+ * conexão da transação corrente. Alterações em massa são UPDATEs únicos, com o filtro no próprio WHERE,
+ * e as contagens agregadas são GROUP BY sobre a specification.
+ */
+@RequiredArgsConstructor
+public class TaskBulkRepositoryImpl implements TaskBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO tasks " +
+            "(title, description, status, priority, due_date, assignee_id, project_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * A subconsulta trava as linhas do alvo e guarda o estado anterior; o RETURNING entrega esse estado para
+     * os contadores e as atualizações ao vivo, sem um SELECT separado antes do UPDATE. As linhas são travadas
+     * em ordem de id, para que dois lotes concorrentes sobre tarefas em comum não entrem em deadlock.
+     */
+    private static final String UPDATE_SQL = """
+            UPDATE tasks t SET %s = ?, updated_at = ?
+            FROM (SELECT id, assignee_id, status FROM tasks WHERE %s ORDER BY id FOR UPDATE) old
+            WHERE t.id = old.id
+            RETURNING t.id, t.project_id, old.assignee_id, old.status
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${astentask.tasks.bulk.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public List<Long> insertAll(List<Task> tasks) {
+        List<Long> ids = new ArrayList<>(tasks.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < tasks.size(); from += batchSize) {
+            List<Task> chunk = tasks.subList(from, Math.min(from + batchSize, tasks.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.batchUpdate(
+                    con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            bind(ps, chunk.get(i), now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.get("id")).longValue());
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public List<TaskStatusPriorityCount> countByStatusAndPriority(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskStatusPriorityCount> query = cb.createQuery(TaskStatusPriorityCount.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.construct(TaskStatusPriorityCount.class,
+                root.get("status"), root.get("priority"), cb.count(root)));
+        query.where(spec.toPredicate(root, query, cb));
+        query.groupBy(root.get("status"), root.get("priority"));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<TaskRef> updateStatus(List<Long> ids, TaskFilterDTO filter, TaskStatus status) {
+        return update("status", status.name(), ids, filter);
+    }
+
+    @Override
+    public List<TaskRef> updateAssignee(List<Long> ids, TaskFilterDTO filter, Long assigneeId) {
+        return update("assignee_id", assigneeId, ids, filter);
+    }
+
+    private List<TaskRef> update(String column, Object value, List<Long> ids, TaskFilterDTO filter) {
+        List<Object> args = new ArrayList<>();
+        args.add(value);
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        String where = ids != null && !ids.isEmpty() ? idsWhere(ids, args) : filterWhere(filter, args);
+
+        entityManager.flush();
+        return jdbcTemplate.query(UPDATE_SQL.formatted(column, where), (rs, rowNum) -> {
+            String status = rs.getString("status");
+            return new TaskRef(rs.getLong("id"), rs.getLong("project_id"), rs.getObject("assignee_id", Long.class),
+                    status != null ? TaskStatus.valueOf(status) : null);
+        }, args.toArray());
+    }
+
+    private static String idsWhere(List<Long> ids, List<Object> args) {
+        args.addAll(ids);
+        return "id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+    }
+
+    /**
+     * Mesmo critério de {@code TaskSpecification.withFilters}, em SQL.
+     */
+    private static String filterWhere(TaskFilterDTO filter, List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("project_id = ?");
+        args.add(filter.getProjectId());
+        if (filter.getTitle() != null && !filter.getTitle().isBlank()) {
+            conditions.add("LOWER(title) LIKE ?");
+            args.add("%" + filter.getTitle().toLowerCase() + "%");
+        }
+        if (filter.getStatus() != null) {
+            conditions.add("status = ?");
+            args.add(filter.getStatus().name());
+        }
+        if (filter.getPriority() != null) {
+            conditions.add("priority = ?");
+            args.add(filter.getPriority().name());
+        }
+        if (filter.getAssigneeId() != null) {
+            conditions.add("assignee_id = ?");
+            args.add(filter.getAssigneeId());
+        }
+        if (filter.getStartCreated() != null && filter.getEndCreated() != null) {
+            conditions.add("created_at BETWEEN ? AND ?");
+            args.add(Timestamp.valueOf(filter.getStartCreated()));
+            args.add(Timestamp.valueOf(filter.getEndCreated()));
+        }
+        return String.join(" AND ", conditions);
+    }
+
+    private void bind(PreparedStatement ps, Task task, Timestamp now) throws SQLException {
+        TaskStatus status = task.getStatus() != null ? task.getStatus() : TaskStatus.PENDING;
+        TaskPriority priority = task.getPriority() != null ? task.getPriority() : TaskPriority.MEDIUM;
+
+        ps.setString(1, task.getTitle());
+        ps.setString(2, task.getDescription());
+        ps.setString(3, status.name());
+        ps.setString(4, priority.name());
+        if (task.getDueDate() != null) {
+            ps.setTimestamp(5, Timestamp.valueOf(task.getDueDate()));
+        } else {
+            ps.setNull(5, Types.TIMESTAMP);
+        }
+        if (task.getAssignee() != null) {
+            ps.setLong(6, task.getAssignee().getId());
+        } else {
+            ps.setNull(6, Types.BIGINT);
+        }
+        ps.setLong(7, task.getProject().getId());
+        ps.setTimestamp(8, now);
+        ps.setTimestamp(9, now);
+    }
+}
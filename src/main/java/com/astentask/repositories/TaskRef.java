@@ -0,0 +1,35 @@
+package com.astentask.repositories;
+
+import com.astentask.model.Task;
+import com.astentask.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Identificação mínima de uma tarefa, lida sem carregar a entidade. Também serve de retrato
+ * do estado que alimenta os contadores do dashboard (projeto, responsável e status).
+ */
+@Getter
+@AllArgsConstructor
+public class TaskRef {
+    private final Long id;
+    private final Long projectId;
+    private final Long assigneeId;
+    private final TaskStatus status;
+
+    public static TaskRef of(Task task) {
+        return new TaskRef(
+                task.getId(),
+                task.getProject().getId(),
+                task.getAssignee() != null ? task.getAssignee().getId() : null,
+                task.getStatus());
+    }
+
+    public TaskRef withStatus(TaskStatus newStatus) {
+        return new TaskRef(id, projectId, assigneeId, newStatus);
+    }
+
+    public TaskRef withAssigneeId(Long newAssigneeId) {
+        return new TaskRef(id, projectId, newAssigneeId, status);
+    }
+}
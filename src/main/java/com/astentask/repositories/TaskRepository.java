@@ -2,7 +2,11 @@ package com.astentask.repositories;
 
 import com.astentask.model.Task;
 import com.astentask.model.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -11,7 +15,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskBulkRepository {
+
+    /**
+     * Listagens paginadas trazem o responsável no mesmo SELECT, já que o DTO lê o nome dele.
+     */
+    @Override
+    @EntityGraph(attributePaths = "assignee")
+    Page<Task> findAll(Specification<Task> spec, Pageable pageable);
 
     long countByProjectId(Long projectId);
 
@@ -27,6 +38,10 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
     @Query("SELECT t.priority, COUNT(t) FROM Task t WHERE t.project.id = :projectId GROUP BY t.priority")
     List<Object[]> countTasksGroupedByPriorityRaw(@Param("projectId") Long projectId);
 
+    @Query("SELECT a.id, a.name, t.status, COUNT(t) FROM Task t LEFT JOIN t.assignee a " +
+            "WHERE t.project.id = :projectId GROUP BY a.id, a.name, t.status")
+    List<Object[]> countTasksGroupedByAssigneeAndStatusRaw(@Param("projectId") Long projectId);
+
     default Map<String, Long> countTasksGroupedByStatus(Long projectId) {
         return countTasksGroupedByStatusRaw(projectId).stream()
                 .collect(Collectors.toMap(
@@ -0,0 +1,17 @@
+package com.astentask.repositories;
+
+import com.astentask.model.TaskPriority;
+import com.astentask.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Uma linha do GROUP BY de tarefas por status e prioridade.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskStatusPriorityCount {
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final long count;
+}
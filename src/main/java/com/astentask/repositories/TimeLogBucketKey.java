@@ -0,0 +1,31 @@
+package com.astentask.repositories;
+
+import com.astentask.model.TimeLog;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * Balde diário de minutos de um usuário em uma tarefa. Assim como {@link DashboardCounterKey}, a ordem
+ * natural define a sequência de gravação para evitar deadlock entre transações concorrentes.
+ */
+public record TimeLogBucketKey(Long taskId, Long userId, LocalDate day, Long projectId) implements Comparable<TimeLogBucketKey> {
+
+    private static final Comparator<TimeLogBucketKey> ORDER = Comparator
+            .comparing(TimeLogBucketKey::taskId)
+            .thenComparing(TimeLogBucketKey::userId)
+            .thenComparing(TimeLogBucketKey::day);
+
+    public static TimeLogBucketKey of(TimeLog timeLog) {
+        return new TimeLogBucketKey(
+                timeLog.getTask().getId(),
+                timeLog.getUser().getId(),
+                timeLog.getStartTime().toLocalDate(),
+                timeLog.getTask().getProject().getId());
+    }
+
+    @Override
+    public int compareTo(TimeLogBucketKey other) {
+        return ORDER.compare(this, other);
+    }
+}
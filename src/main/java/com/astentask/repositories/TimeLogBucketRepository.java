@@ -0,0 +1,103 @@
+package com.astentask.repositories;
+
+import com.astentask.dtos.TimeLogBucketDTO;
+import com.astentask.model.TimeBucketGranularity;
+import com.astentask.model.TimeLogDimension;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * Acesso à tabela timelog_daily_buckets. Os incrementos são upserts relativos, como em
+ * {@link DashboardCounterRepository}; as consultas de intervalo leem apenas os baldes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimeLogBucketRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO timelog_daily_buckets (task_id, user_id, bucket_date, project_id, minutes) VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (task_id, user_id, bucket_date) DO UPDATE SET minutes = timelog_daily_buckets.minutes + EXCLUDED.minutes
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addAll(SortedMap<TimeLogBucketKey, Long> deltas) {
+        List<Object[]> rows = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0L)
+                .map(entry -> new Object[]{
+                        entry.getKey().taskId(), entry.getKey().userId(), Date.valueOf(entry.getKey().day()),
+                        entry.getKey().projectId(), entry.getValue()})
+                .toList();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        }
+    }
+
+    /**
+     * Soma os baldes do intervalo [from, to] por período e pela dimensão pedida. Os filtros nulos são ignorados.
+     */
+    public List<TimeLogBucketDTO> findSeries(TimeLogDimension groupBy, TimeBucketGranularity granularity,
+                                             LocalDate from, LocalDate to,
+                                             Long userId, Long projectId, Long taskId) {
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(periodExpression(granularity)).append(" AS period_start, ")
+                .append(column(groupBy)).append(" AS group_id, SUM(minutes) AS minutes ")
+                .append("FROM timelog_daily_buckets WHERE bucket_date BETWEEN ? AND ?");
+        List<Object> args = new ArrayList<>(List.of(Date.valueOf(from), Date.valueOf(to)));
+
+        if (userId != null) {
+            sql.append(" AND user_id = ?");
+            args.add(userId);
+        }
+        if (projectId != null) {
+            sql.append(" AND project_id = ?");
+            args.add(projectId);
+        }
+        if (taskId != null) {
+            sql.append(" AND task_id = ?");
+            args.add(taskId);
+        }
+        sql.append(" GROUP BY 1, 2 HAVING SUM(minutes) <> 0 ORDER BY 1, 2");
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new TimeLogBucketDTO(
+                        rs.getDate("period_start").toLocalDate(), rs.getLong("group_id"), rs.getLong("minutes")),
+                args.toArray());
+    }
+
+    /**
+     * Minutos registrados no projeto por usuário: linhas (user_id, nome, minutos).
+     */
+    public List<Object[]> sumMinutesByUser(Long projectId) {
+        return jdbcTemplate.query("""
+                        SELECT b.user_id, u.name, SUM(b.minutes) AS minutes
+                        FROM timelog_daily_buckets b JOIN users u ON u.id = b.user_id
+                        WHERE b.project_id = ?
+                        GROUP BY b.user_id, u.name
+                        """,
+                (rs, rowNum) -> new Object[]{rs.getLong("user_id"), rs.getString("name"), rs.getLong("minutes")},
+                projectId);
+    }
+
+    private static String periodExpression(TimeBucketGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> "bucket_date";
+            case WEEK -> "CAST(date_trunc('week', bucket_date) AS DATE)";
+        };
+    }
+
+    private static String column(TimeLogDimension dimension) {
+        return switch (dimension) {
+            case USER -> "user_id";
+            case TASK -> "task_id";
+            case PROJECT -> "project_id";
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.astentask.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UploadSessionCleanupRepository {
+
+    /**
+     * Remove até {@code limit} sessões vencidas antes de {@code now} e devolve os ids removidos. Sessões travadas
+     * (um upload sendo concluído ou cancelado) são puladas e ficam para a próxima rodada.
+     */
+    List<String> deleteExpired(LocalDateTime now, int limit);
+}
@@ -0,0 +1,31 @@
+package com.astentask.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class UploadSessionCleanupRepositoryImpl implements UploadSessionCleanupRepository {
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM attachment_upload_sessions
+            WHERE id IN (
+                SELECT id FROM attachment_upload_sessions
+                WHERE expires_at < ?
+                ORDER BY expires_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<String> deleteExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.queryForList(DELETE_EXPIRED_SQL, String.class, Timestamp.valueOf(now), limit);
+    }
+}
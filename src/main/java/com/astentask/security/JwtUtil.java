@@ -1,14 +1,28 @@
 package com.astentask.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
@@ -17,20 +31,68 @@ public class JwtUtil {
     private final long ACCESS_TOKEN_EXPIRATION = 1000 * 60 * 15; // 15 minutos
     private final long REFRESH_TOKEN_EXPIRATION = 1000 * 60 * 60 * 24 * 7; // 7 dias
 
-    private Key getKey() {
-        return Keys.hmacShaKeyFor(SECRET.getBytes());
+    // A chave e o parser são imutáveis e seguros entre threads: criados uma vez, não a cada token.
+    private final Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+    private final JwtParser parser;
+    private final Clock clock;
+
+    /**
+     * Tokens já verificados, pelo SHA-256 do token (o token em si não fica em memória). Cada entrada vence no
+     * {@code exp} do token, então um token expirado nunca é aceito pelo cache.
+     */
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    @Autowired
+    public JwtUtil(@Value("${astentask.security.jwt.verified-cache.maximum-size:10000}") long verifiedCacheSize) {
+        this(verifiedCacheSize, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    /**
+     * {@code clock} é a hora de emissão e de validação do {@code exp}; {@code ticker} mede a validade das entradas
+     * do cache. Os testes avançam os dois juntos.
+     */
+    JwtUtil(long verifiedCacheSize, Clock clock, Ticker ticker) {
+        this.clock = clock;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setClock(() -> new Date(clock.millis()))
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .ticker(ticker)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(
+                                Math.max(0, token.expiresAt().getTime() - clock.millis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken token, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String generateToken(String email, String role, TokenType tokenType) {
         long expirationTime = (tokenType == TokenType.ACCESS) ? ACCESS_TOKEN_EXPIRATION : REFRESH_TOKEN_EXPIRATION;
+        long now = clock.millis();
 
         return Jwts.builder()
                 .setSubject(email)
                 .claim("role", role)
                 .claim("type", tokenType.name())
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
-                .signWith(getKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expirationTime))
+                .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -42,34 +104,50 @@ public class JwtUtil {
         return generateToken(email, role, TokenType.REFRESH);
     }
 
-    public String extractEmail(String token) {
-        return getClaims(token).getSubject();
-    }
-
-    public String extractRole(String token) {
-        return getClaims(token).get("role", String.class);
+    /**
+     * Verifica o token uma única vez e devolve as claims usadas na autenticação. Um token já verificado vem do
+     * cache, sem refazer a checagem de assinatura; tokens inválidos não são guardados.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        try {
+            Claims claims = getClaims(token);
+            String type = claims.get("type", String.class);
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    type != null ? TokenType.valueOf(type) : null,
+                    claims.getExpiration());
+            if (verified.expiresAt() != null) {
+                verifiedTokens.put(digest, verified);
+            }
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
-    public TokenType extractTokenType(String token) {
-        String type = getClaims(token).get("type", String.class);
-        return TokenType.valueOf(type);
+    private Claims getClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    public boolean isTokenValid(String token) {
+    private static String digest(String token) {
         try {
-            getClaims(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public record VerifiedToken(String email, String role, TokenType type, Date expiresAt) {
     }
 
     public enum TokenType {
@@ -1,5 +1,6 @@
 package com.astentask.security;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -35,14 +36,19 @@ public class SecurityConfig {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // exportações em streaming terminam em um dispatch ASYNC, já autorizado na requisição original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                          .requestMatchers(
                                  "/h2-console/**",
                                  "/swagger-ui.html",
                                  "/swagger-ui/**",
                                  "/v3/api-docs/**"
                          ).permitAll()
+                        // o handshake é aberto; a autenticação acontece no frame STOMP CONNECT
+                        .requestMatchers("/ws/**").permitAll()
                         .requestMatchers("/external/import-users").hasAnyRole("ADMIN")
                         .requestMatchers("/api/users/**").hasAnyRole("ADMIN")
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         //autenticação
                         .requestMatchers(HttpMethod.POST, "/api/auth/**").permitAll()
                         //projetos
@@ -55,11 +61,17 @@ public class SecurityConfig {
                         //tarefas
                         .requestMatchers(HttpMethod.GET, "/api/projects/*/tasks").hasAnyRole("ADMIN", "PROJECT_MANAGER", "DEVELOPER", "VIEWER")
                         .requestMatchers(HttpMethod.POST, "/api/projects/*/tasks").hasAnyRole("ADMIN", "PROJECT_MANAGER")
+                        .requestMatchers(HttpMethod.POST, "/api/projects/*/tasks/bulk").hasAnyRole("ADMIN", "PROJECT_MANAGER")
+                        .requestMatchers(HttpMethod.GET, "/api/projects/*/tasks/export").hasAnyRole("ADMIN", "PROJECT_MANAGER")
+                        .requestMatchers(HttpMethod.GET, "/api/projects/*/timelogs/export").hasAnyRole("ADMIN", "PROJECT_MANAGER")
+                        .requestMatchers(HttpMethod.PUT, "/api/tasks/bulk/status").hasAnyRole("ADMIN", "PROJECT_MANAGER")
+                        .requestMatchers(HttpMethod.PUT, "/api/tasks/bulk/assign").hasAnyRole("ADMIN", "PROJECT_MANAGER")
                         .requestMatchers(HttpMethod.GET, "/api/tasks/*").hasAnyRole("ADMIN", "PROJECT_MANAGER", "DEVELOPER", "VIEWER")
                         .requestMatchers(HttpMethod.PUT, "/api/tasks/*").hasAnyRole("ADMIN", "PROJECT_MANAGER")
                         .requestMatchers(HttpMethod.DELETE, "/api/tasks/*").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/tasks/*/status").hasAnyRole("ADMIN", "PROJECT_MANAGER")
                         .requestMatchers(HttpMethod.PUT, "/api/tasks/*/assign").hasAnyRole("ADMIN", "PROJECT_MANAGER")
+                        .requestMatchers("/api/tasks/*/attachments/uploads/**").hasAnyRole("ADMIN", "PROJECT_MANAGER", "DEVELOPER")
                         .requestMatchers(HttpMethod.POST, "/api/tasks/*/attachments").hasAnyRole("ADMIN", "PROJECT_MANAGER", "DEVELOPER")
                         .requestMatchers(HttpMethod.GET, "/api/tasks/*/attachments").hasAnyRole("ADMIN", "PROJECT_MANAGER", "DEVELOPER")
                         .requestMatchers(HttpMethod.GET, "/api/tasks/*/attachments/*").hasAnyRole("ADMIN", "PROJECT_MANAGER", "DEVELOPER")
@@ -77,6 +89,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/dashboard/overview").hasAnyRole("ADMIN", "PROJECT_MANAGER", "DEVELOPER", "VIEWER")
                         .requestMatchers(HttpMethod.GET, "/api/dashboard/my-tasks").hasAnyRole("ADMIN", "PROJECT_MANAGER", "DEVELOPER", "VIEWER")
                         .requestMatchers(HttpMethod.GET, "/api/reports/project/*").hasAnyRole("ADMIN", "PROJECT_MANAGER")
+                        .requestMatchers(HttpMethod.GET, "/api/analytics/time-logs").hasAnyRole("ADMIN", "PROJECT_MANAGER")
+                        .requestMatchers("/api/reports/jobs/**").hasAnyRole("ADMIN", "PROJECT_MANAGER")
 
                         .anyRequest().authenticated()
                 )
@@ -104,17 +118,15 @@ public class SecurityConfig {
             String authHeader = request.getHeader("Authorization");
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String token = authHeader.substring(7);
-                if (jwtUtil.isTokenValid(token)) {
-                    String email = jwtUtil.extractEmail(token);
-                    String role = jwtUtil.extractRole(token);
-                    System.out.println("ROLE do token: " + role);
+                // Uma única verificação por requisição; tokens repetidos vêm do cache do JwtUtil.
+                jwtUtil.verify(token).ifPresent(verified -> {
                     var auth = new UsernamePasswordAuthenticationToken(
-                            email,
+                            verified.email(),
                             null,
-                            List.of(new SimpleGrantedAuthority("ROLE_" + role))
+                            List.of(new SimpleGrantedAuthority("ROLE_" + verified.role()))
                     );
                     SecurityContextHolder.getContext().setAuthentication(auth);
-                }
+                });
             }
             filterChain.doFilter(request, response);
         }
@@ -0,0 +1,74 @@
+package com.astentask.security;
+
+import com.astentask.live.LiveUpdateDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Autentica a sessão STOMP pelo token de acesso enviado no header Authorization do frame CONNECT
+ * (navegadores não enviam headers no handshake do WebSocket) e limita as inscrições aos canais de atualização.
+ * O canal é apenas de leitura: frames SEND são recusados.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final Pattern PROJECT_DESTINATION =
+            Pattern.compile(Pattern.quote(LiveUpdateDispatcher.PROJECT_TOPIC) + "\\d+");
+    private static final String USER_DASHBOARD_DESTINATION = "/user" + LiveUpdateDispatcher.DASHBOARD_QUEUE;
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            checkSubscription(accessor);
+        } else if (accessor.getCommand() == StompCommand.SEND) {
+            throw new MessageDeliveryException("Canal somente leitura");
+        }
+        return message;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new MessageDeliveryException("Token ausente");
+        }
+        String token = authHeader.substring(7);
+        JwtUtil.VerifiedToken verified = jwtUtil.verify(token)
+                .filter(candidate -> candidate.type() == JwtUtil.TokenType.ACCESS)
+                .orElseThrow(() -> new MessageDeliveryException("Token inválido"));
+        return new UsernamePasswordAuthenticationToken(
+                verified.email(),
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + verified.role())));
+    }
+
+    private void checkSubscription(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (accessor.getUser() == null) {
+            throw new MessageDeliveryException("Sessão não autenticada");
+        }
+        if (destination == null
+                || !(PROJECT_DESTINATION.matcher(destination).matches() || USER_DASHBOARD_DESTINATION.equals(destination))) {
+            throw new MessageDeliveryException("Destino não permitido: " + destination);
+        }
+    }
+}
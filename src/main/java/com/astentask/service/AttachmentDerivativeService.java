@@ -0,0 +1,201 @@
+package com.astentask.service;
+
+import com.astentask.config.AsyncConfig;
+import com.astentask.model.AttachmentVariant;
+import com.astentask.repositories.AttachmentDerivativeRepository;
+import com.astentask.repositories.AttachmentDerivativeRepository.Derivative;
+import com.astentask.storage.AttachmentCompression;
+import com.astentask.storage.AttachmentStorage;
+import com.astentask.storage.StoredObject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Gera miniaturas e prévias ({@link AttachmentVariant}) de imagens anexadas, fora da requisição, no pool
+ * {@link AsyncConfig#DERIVATIVE_EXECUTOR}. A geração é pedida após o commit do upload e, se ainda não existir
+ * (fila cheia, anexo antigo), no download da variante. As variantes são por conteúdo: anexos com o mesmo
+ * checksum compartilham as mesmas miniaturas.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentDerivativeService {
+
+    private final AttachmentDerivativeRepository derivativeRepository;
+    private final AttachmentStorage storage;
+    private final AttachmentCompression compression;
+
+    @Qualifier(AsyncConfig.DERIVATIVE_EXECUTOR)
+    private final Executor derivativeExecutor;
+
+    @Value("${astentask.attachments.derivatives.max-source-pixels:100000000}")
+    private long maxSourcePixels;
+
+    /** Checksums com geração em andamento, para que downloads repetidos não enfileirem o mesmo trabalho. */
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Indica se o tipo é uma imagem que o ImageIO consegue ler.
+     */
+    public boolean supports(String fileType) {
+        return fileType != null
+                && fileType.toLowerCase(Locale.ROOT).startsWith("image/")
+                && ImageIO.getImageReadersByMIMEType(fileType.toLowerCase(Locale.ROOT)).hasNext();
+    }
+
+    public Optional<Derivative> find(String checksum, AttachmentVariant variant) {
+        return derivativeRepository.find(checksum, variant);
+    }
+
+    @TransactionalEventListener
+    public void onAttachmentStored(AttachmentStoredEvent event) {
+        if (supports(event.fileType())) {
+            request(event.checksum(), event.storageKey(), event.contentEncoding());
+        }
+    }
+
+    /**
+     * Enfileira a geração das variantes que faltam para o conteúdo. Com a fila cheia o pedido é descartado;
+     * o próximo download da variante pede de novo.
+     */
+    public void request(String checksum, String storageKey, String contentEncoding) {
+        if (!inFlight.add(checksum)) {
+            return;
+        }
+        try {
+            derivativeExecutor.execute(() -> {
+                try {
+                    generate(checksum, storageKey, contentEncoding);
+                } catch (Exception e) {
+                    log.warn("Falha ao gerar variantes do conteúdo {}: {}", checksum, e.getMessage());
+                } finally {
+                    inFlight.remove(checksum);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(checksum);
+            log.warn("Fila de miniaturas cheia; geração do conteúdo {} adiada", checksum);
+        }
+    }
+
+    private void generate(String checksum, String storageKey, String contentEncoding) throws IOException {
+        List<AttachmentVariant> existing = derivativeRepository.findVariants(checksum);
+        List<AttachmentVariant> missing = Arrays.stream(AttachmentVariant.values())
+                .filter(variant -> !existing.contains(variant))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        int largest = missing.stream().mapToInt(AttachmentVariant::getMaxDimension).max().orElseThrow();
+        BufferedImage source = read(storageKey, contentEncoding, largest);
+        if (source == null) {
+            return;
+        }
+
+        for (AttachmentVariant variant : missing) {
+            BufferedImage scaled = scale(source, variant.getMaxDimension());
+            boolean alpha = scaled.getColorModel().hasAlpha();
+            ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            ImageIO.write(scaled, alpha ? "png" : "jpeg", encoded);
+
+            StoredObject stored = storage.store(new ByteArrayInputStream(encoded.toByteArray()));
+            Derivative derivative = new Derivative(stored.key(), alpha ? "image/png" : "image/jpeg", stored.size());
+            try {
+                if (!derivativeRepository.insert(checksum, variant, derivative)) {
+                    deleteQuietly(stored.key());
+                }
+            } catch (DataIntegrityViolationException e) {
+                // O conteúdo foi removido enquanto a variante era gerada.
+                deleteQuietly(stored.key());
+                return;
+            }
+        }
+        log.debug("Variantes {} geradas para o conteúdo {}", missing, checksum);
+    }
+
+    /**
+     * Lê a imagem pulando linhas e colunas (subsampling) quando ela é muito maior que a variante pedida, para
+     * não decodificar a resolução inteira. Imagens ilegíveis ou acima de max-source-pixels são ignoradas.
+     */
+    private BufferedImage read(String storageKey, String contentEncoding, int targetDimension) throws IOException {
+        try (InputStream content = compression.decode(storage.open(storageKey), contentEncoding);
+             ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    log.info("Imagem {} com {}x{} pixels acima do limite; variantes não geradas",
+                            storageKey, width, height);
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(width, height) / (targetDimension * 2);
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int maxDimension) {
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage scaled = new BufferedImage(width, height,
+                source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            storage.delete(key);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o conteúdo {} do storage: {}", key, e.getMessage());
+        }
+    }
+}
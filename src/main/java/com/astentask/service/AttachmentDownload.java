@@ -0,0 +1,11 @@
+package com.astentask.service;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * Conteúdo de um anexo pronto para a resposta: o corpo, o Content-Encoding com que ele sai (null quando vai
+ * descomprimido ou nunca foi comprimido), o ETag dessa representação e o tipo, quando difere do tipo do anexo
+ * (miniaturas).
+ */
+public record AttachmentDownload(Resource resource, String contentEncoding, String eTag, String contentType) {
+}
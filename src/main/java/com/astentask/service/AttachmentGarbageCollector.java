@@ -0,0 +1,154 @@
+package com.astentask.service;
+
+import com.astentask.config.AsyncConfig;
+import com.astentask.dtos.StorageGcResultDTO;
+import com.astentask.repositories.AttachmentBlobRepository;
+import com.astentask.storage.AttachmentStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * Recupera o espaço de conteúdo que nenhum anexo usa mais, em lotes pequenos com pausa entre eles para não
+ * disputar o banco e o disco com as requisições:
+ * <ul>
+ *     <li>blobs sem nenhum anexo (contagem de referências divergente, anexos removidos direto no banco), com as
+ *     suas variantes;</li>
+ *     <li>arquivos do storage que nenhum anexo, blob ou variante referencia (uploads interrompidos antes do
+ *     rollback, cópias duplicadas da carga inicial).</li>
+ * </ul>
+ * Só entra o que é mais antigo que {@code astentask.storage.gc.grace-period}, para não alcançar uploads e
+ * miniaturas ainda em gravação. A coleta agendada roda no pool {@link AsyncConfig#STORAGE_GC_EXECUTOR}, fora da
+ * thread do scheduler.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentGarbageCollector {
+
+    private final AttachmentBlobRepository blobRepository;
+    private final AttachmentStorage storage;
+    private final PlatformTransactionManager transactionManager;
+
+    @Qualifier(AsyncConfig.STORAGE_GC_EXECUTOR)
+    private final Executor storageGcExecutor;
+
+    @Value("${astentask.storage.gc.batch-size:200}")
+    private int batchSize;
+
+    @Value("${astentask.storage.gc.pause-ms:500}")
+    private long pauseMillis;
+
+    @Value("${astentask.storage.gc.grace-period:1h}")
+    private Duration gracePeriod;
+
+    @Scheduled(initialDelayString = "${astentask.storage.gc.interval-ms:3600000}",
+            fixedDelayString = "${astentask.storage.gc.interval-ms:3600000}")
+    public void scheduledCollect() {
+        try {
+            storageGcExecutor.execute(this::collectQuietly);
+        } catch (RejectedExecutionException e) {
+            log.debug("Coleta de anexos anterior ainda em andamento; execução agendada ignorada");
+        }
+    }
+
+    public StorageGcResultDTO collect() {
+        long start = System.currentTimeMillis();
+        long blobs = collectOrphanBlobs();
+        long files = collectUnreferencedFiles();
+        if (blobs > 0 || files > 0) {
+            log.info("Coleta de anexos: {} blobs e {} arquivos sem referência removidos", blobs, files);
+        }
+        return new StorageGcResultDTO(blobs, files, System.currentTimeMillis() - start);
+    }
+
+    private void collectQuietly() {
+        try {
+            collect();
+        } catch (Exception e) {
+            log.warn("Falha na coleta de conteúdo sem referência: {}", e.getMessage());
+        }
+    }
+
+    private long collectOrphanBlobs() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        LocalDateTime createdBefore = LocalDateTime.now().minus(gracePeriod);
+        long removed = 0;
+        int found;
+        do {
+            // Os arquivos só são apagados depois do commit que removeu as linhas.
+            List<List<String>> batch = transaction.execute(status ->
+                    blobRepository.lockOrphans(createdBefore, batchSize).stream()
+                            .map(blobRepository::deleteOrphan)
+                            .toList());
+            batch.forEach(keys -> keys.forEach(this::deleteQuietly));
+            found = batch.size();
+            removed += found;
+        } while (found == batchSize && pause());
+        return removed;
+    }
+
+    private long collectUnreferencedFiles() {
+        Instant modifiedBefore = Instant.now().minus(gracePeriod);
+        long removed = 0;
+        try (Stream<String> keys = storage.keys(modifiedBefore)) {
+            Iterator<String> iterator = keys.iterator();
+            List<String> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    List<String> unreferenced = blobRepository.findUnreferenced(batch);
+                    unreferenced.forEach(this::deleteQuietly);
+                    removed += unreferenced.size();
+                    batch.clear();
+                    if (iterator.hasNext() && !pause()) {
+                        break;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Não foi possível listar o conteúdo do storage: {}", e.getMessage());
+        }
+        return removed;
+    }
+
+    /**
+     * Pausa entre lotes; devolve false se a thread foi interrompida, encerrando a coleta.
+     */
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            storage.delete(key);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o conteúdo {} do storage: {}", key, e.getMessage());
+        }
+    }
+}
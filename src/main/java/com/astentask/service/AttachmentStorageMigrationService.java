@@ -0,0 +1,124 @@
+package com.astentask.service;
+
+import com.astentask.dtos.AttachmentMigrationResultDTO;
+import com.astentask.repositories.AttachmentBlobRepository;
+import com.astentask.storage.AttachmentCompression;
+import com.astentask.storage.AttachmentStorage;
+import com.astentask.storage.StoredObject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Move o conteúdo de anexos antigos de task_attachment_content para o {@link AttachmentStorage}. Cada anexo
+ * é movido em sua própria transação (grava no storage, registra o conteúdo em attachment_blobs, preenche
+ * storage_key e apaga a linha de conteúdo), então a migração pode ser interrompida e executada de novo.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentStorageMigrationService {
+
+    private static final String PENDING_SQL =
+            "SELECT attachment_id FROM task_attachment_content WHERE attachment_id > ? ORDER BY attachment_id LIMIT ?";
+    private static final String DATA_SQL = """
+            SELECT c.data, a.file_type FROM task_attachment_content c JOIN task_attachment a ON a.id = c.attachment_id
+            WHERE c.attachment_id = ? FOR UPDATE OF c
+            """;
+    private static final String UPDATE_SQL =
+            "UPDATE task_attachment SET storage_key = ?, content_encoding = ?, checksum = ? WHERE id = ?";
+    private static final String DELETE_CONTENT_SQL =
+            "DELETE FROM task_attachment_content WHERE attachment_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final AttachmentStorage storage;
+    private final AttachmentBlobRepository blobRepository;
+    private final AttachmentCompression compression;
+
+    @Value("${astentask.storage.migration.batch-size:100}")
+    private int batchSize;
+
+    public AttachmentMigrationResultDTO migrateLegacyContent() {
+        long start = System.currentTimeMillis();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long migrated = 0;
+        long failed = 0;
+        long lastId = 0;
+
+        List<Long> ids;
+        while (!(ids = jdbcTemplate.queryForList(PENDING_SQL, Long.class, lastId, batchSize)).isEmpty()) {
+            for (Long id : ids) {
+                try {
+                    Boolean moved = transaction.execute(status -> migrate(id));
+                    if (Boolean.TRUE.equals(moved)) {
+                        migrated++;
+                    }
+                } catch (RuntimeException e) {
+                    failed++;
+                    log.warn("Falha ao mover o anexo {} para o storage: {}", id, e.getMessage());
+                }
+                lastId = id;
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Migração de anexos para o storage: {} movidos, {} falhas, {} ms", migrated, failed, elapsed);
+        return new AttachmentMigrationResultDTO(migrated, failed, elapsed);
+    }
+
+    private boolean migrate(Long id) {
+        MessageDigest digest = TaskAttachmentService.sha256();
+        List<StoredContent> stored = jdbcTemplate.query(DATA_SQL, (rs, rowNum) -> {
+            String encoding = compression.encodingFor(rs.getString("file_type"));
+            InputStream raw = new DigestInputStream(rs.getBinaryStream("data"), digest);
+            try (InputStream content = compression.encode(raw, encoding)) {
+                return new StoredContent(storage.store(content), encoding);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, id);
+        if (stored.isEmpty()) {
+            return false;
+        }
+
+        StoredObject object = stored.get(0).object();
+        String checksum = HexFormat.of().formatHex(digest.digest());
+        try {
+            AttachmentBlobRepository.Blob blob =
+                    blobRepository.acquire(checksum, object.key(), object.size(), stored.get(0).encoding());
+            jdbcTemplate.update(UPDATE_SQL, blob.storageKey(), blob.contentEncoding(), checksum, id);
+            jdbcTemplate.update(DELETE_CONTENT_SQL, id);
+            if (!blob.storageKey().equals(object.key())) {
+                deleteQuietly(object.key());
+            }
+        } catch (RuntimeException e) {
+            deleteQuietly(object.key());
+            throw e;
+        }
+        return true;
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            storage.delete(key);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o conteúdo {} do storage: {}", key, e.getMessage());
+        }
+    }
+
+    private record StoredContent(StoredObject object, String encoding) {
+    }
+}
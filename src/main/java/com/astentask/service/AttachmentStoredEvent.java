@@ -0,0 +1,7 @@
+package com.astentask.service;
+
+/**
+ * Publicado quando um anexo é gravado; depois do commit dispara a geração das variantes de imagens.
+ */
+public record AttachmentStoredEvent(String checksum, String storageKey, String contentEncoding, String fileType) {
+}
@@ -0,0 +1,276 @@
+package com.astentask.service;
+
+import com.astentask.dtos.TaskAttachmentDTO;
+import com.astentask.dtos.UploadSessionDTO;
+import com.astentask.dtos.UploadSessionRequestDTO;
+import com.astentask.exception.BadRequestException;
+import com.astentask.exception.ResourceNotFoundException;
+import com.astentask.model.AttachmentUploadSession;
+import com.astentask.model.Task;
+import com.astentask.repositories.AttachmentUploadSessionRepository;
+import com.astentask.repositories.TaskRepository;
+import com.astentask.storage.AttachmentStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Uploads de anexos em partes: iniciar, enviar partes por offset, consultar o que já chegou e concluir.
+ * As partes vão direto para o storage; só a concluída vira anexo, pelo mesmo fluxo do upload multipart.
+ * Sessões sem atividade por {@code astentask.uploads.session-ttl} são descartadas em segundo plano.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentUploadService {
+
+    private static final int EXPIRE_BATCH_SIZE = 100;
+
+    private final AttachmentUploadSessionRepository sessionRepository;
+    private final TaskRepository taskRepository;
+    private final TaskAttachmentService attachmentService;
+    private final StorageQuotaService quotaService;
+    private final AttachmentStorage storage;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${astentask.uploads.max-file-size:2GB}")
+    private DataSize maxFileSize;
+
+    @Value("${astentask.uploads.max-chunk-size:16MB}")
+    private DataSize maxChunkSize;
+
+    @Value("${astentask.uploads.session-ttl:24h}")
+    private Duration sessionTtl;
+
+    @Transactional(rollbackFor = IOException.class)
+    public UploadSessionDTO initiate(Long taskId, UploadSessionRequestDTO request, String owner) throws IOException {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task não encontrada"));
+        if (request.getSize() > maxFileSize.toBytes()) {
+            throw new BadRequestException("Arquivo maior que o limite de " + maxFileSize.toMegabytes() + " MB");
+        }
+        // O tamanho é declarado na abertura: um upload que não cabe na cota é recusado antes da primeira parte.
+        quotaService.checkQuota(task.getProject().getId(), request.getSize());
+
+        LocalDateTime now = LocalDateTime.now();
+        AttachmentUploadSession session = sessionRepository.save(AttachmentUploadSession.builder()
+                .id(UUID.randomUUID().toString())
+                .taskId(taskId)
+                .owner(owner)
+                .filename(request.getFilename())
+                .fileType(request.getFileType())
+                .size(request.getSize())
+                .receivedRanges("")
+                .createdAt(now)
+                .expiresAt(now.plus(sessionTtl))
+                .build());
+        // As partes nascem com a sessão; writePart nunca cria o arquivo, para não ressuscitar um upload encerrado.
+        storage.createParts(session.getId());
+        deletePartsOnRollback(session.getId());
+        log.info("Upload {} iniciado na tarefa {} ({} bytes)", session.getId(), taskId, session.getSize());
+        return toDTO(session);
+    }
+
+    /**
+     * Grava uma parte a partir de {@code offset}. O corpo é copiado para o storage fora de transação, para não
+     * prender uma conexão do banco enquanto a rede entrega os bytes; só o registro do intervalo recebido
+     * trava a sessão.
+     */
+    public UploadSessionDTO uploadChunk(Long taskId, String uploadId, long offset, InputStream content, String owner)
+            throws IOException {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        AttachmentUploadSession session = transaction.execute(status -> find(taskId, uploadId, owner));
+        if (offset < 0 || offset >= session.getSize()) {
+            throw new BadRequestException("Offset fora do arquivo: " + offset);
+        }
+
+        long limit = Math.min(maxChunkSize.toBytes(), session.getSize() - offset);
+        long written;
+        try {
+            written = storage.writePart(uploadId, offset, content, limit);
+        } catch (NoSuchFileException e) {
+            // Concluído, cancelado ou expirado enquanto a parte chegava: as partes não são recriadas.
+            throw new ResourceNotFoundException("Upload não encontrado ou expirado");
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+
+        return transaction.execute(status -> {
+            AttachmentUploadSession locked = sessionRepository.findForUpdate(uploadId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Upload não encontrado ou expirado"));
+            if (written > 0) {
+                locked.setReceivedRanges(format(merge(parse(locked.getReceivedRanges()), offset, offset + written)));
+            }
+            locked.setExpiresAt(LocalDateTime.now().plus(sessionTtl));
+            return toDTO(locked);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public UploadSessionDTO getSession(Long taskId, String uploadId, String owner) {
+        return toDTO(find(taskId, uploadId, owner));
+    }
+
+    /**
+     * Conclui o upload quando todos os bytes chegaram: o arquivo montado passa pelo fluxo normal de anexos
+     * (checksum, compressão, deduplicação) e as partes são descartadas após o commit.
+     */
+    @Transactional(rollbackFor = IOException.class)
+    public TaskAttachmentDTO complete(Long taskId, String uploadId, String owner) throws IOException {
+        find(taskId, uploadId, owner);
+        AttachmentUploadSession session = sessionRepository.findForUpdate(uploadId)
+                .orElseThrow(() -> new ResourceNotFoundException("Upload não encontrado ou expirado"));
+
+        long received = received(parse(session.getReceivedRanges()));
+        if (received != session.getSize()) {
+            throw new BadRequestException(
+                    "Upload incompleto: " + received + " de " + session.getSize() + " bytes recebidos");
+        }
+
+        TaskAttachmentDTO attachment;
+        try (InputStream content = storage.openParts(uploadId)) {
+            attachment = attachmentService.saveAttachment(
+                    taskId, session.getFilename(), session.getFileType(), session.getSize(), content);
+        }
+        sessionRepository.delete(session);
+        deletePartsAfterCommit(uploadId);
+        log.info("Upload {} concluído como anexo {}", uploadId, attachment.getId());
+        return attachment;
+    }
+
+    @Transactional
+    public void abort(Long taskId, String uploadId, String owner) {
+        sessionRepository.delete(find(taskId, uploadId, owner));
+        deletePartsAfterCommit(uploadId);
+    }
+
+    @Scheduled(fixedDelayString = "${astentask.uploads.cleanup-interval-ms:600000}")
+    public void expireAbandoned() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int expired = 0;
+        List<String> batch;
+        do {
+            batch = transaction.execute(status -> sessionRepository.deleteExpired(LocalDateTime.now(), EXPIRE_BATCH_SIZE));
+            batch.forEach(this::deletePartsQuietly);
+            expired += batch.size();
+        } while (batch.size() == EXPIRE_BATCH_SIZE);
+
+        if (expired > 0) {
+            log.info("{} uploads abandonados expirados", expired);
+        }
+    }
+
+    private AttachmentUploadSession find(Long taskId, String uploadId, String owner) {
+        return sessionRepository.findById(uploadId)
+                .filter(session -> session.getTaskId().equals(taskId) && session.getOwner().equals(owner))
+                .orElseThrow(() -> new ResourceNotFoundException("Upload não encontrado ou expirado"));
+    }
+
+    private void deletePartsOnRollback(String uploadId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    deletePartsQuietly(uploadId);
+                }
+            }
+        });
+    }
+
+    private void deletePartsAfterCommit(String uploadId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deletePartsQuietly(uploadId);
+            }
+        });
+    }
+
+    private void deletePartsQuietly(String uploadId) {
+        try {
+            storage.deleteParts(uploadId);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover as partes do upload {}: {}", uploadId, e.getMessage());
+        }
+    }
+
+    private UploadSessionDTO toDTO(AttachmentUploadSession session) {
+        List<long[]> ranges = parse(session.getReceivedRanges());
+        return UploadSessionDTO.builder()
+                .id(session.getId())
+                .taskId(session.getTaskId())
+                .filename(session.getFilename())
+                .fileType(session.getFileType())
+                .size(session.getSize())
+                .received(received(ranges))
+                .receivedRanges(ranges.stream().map(AttachmentUploadService::formatRange).toList())
+                .maxChunkSize(maxChunkSize.toBytes())
+                .expiresAt(session.getExpiresAt())
+                .build();
+    }
+
+    /**
+     * Intervalos [início, fim) a partir do formato gravado, inclusivo: "0-99,200-299".
+     */
+    private static List<long[]> parse(String ranges) {
+        List<long[]> parsed = new ArrayList<>();
+        if (ranges == null || ranges.isBlank()) {
+            return parsed;
+        }
+        for (String range : ranges.split(",")) {
+            int dash = range.indexOf('-');
+            long start = Long.parseLong(range.substring(0, dash));
+            long last = Long.parseLong(range.substring(dash + 1));
+            parsed.add(new long[]{start, last + 1});
+        }
+        return parsed;
+    }
+
+    /**
+     * Acrescenta [start, end) aos intervalos ordenados, juntando os que se sobrepõem ou se encostam.
+     */
+    private static List<long[]> merge(List<long[]> ranges, long start, long end) {
+        List<long[]> merged = new ArrayList<>();
+        long[] added = {start, end};
+        for (long[] range : ranges) {
+            if (range[1] < added[0] || range[0] > added[1]) {
+                merged.add(range);
+            } else {
+                added = new long[]{Math.min(range[0], added[0]), Math.max(range[1], added[1])};
+            }
+        }
+        merged.add(added);
+        merged.sort((a, b) -> Long.compare(a[0], b[0]));
+        return merged;
+    }
+
+    private static String format(List<long[]> ranges) {
+        return ranges.stream().map(AttachmentUploadService::formatRange).collect(Collectors.joining(","));
+    }
+
+    private static String formatRange(long[] range) {
+        return range[0] + "-" + (range[1] - 1);
+    }
+
+    private static long received(List<long[]> ranges) {
+        return ranges.stream().mapToLong(range -> range[1] - range[0]).sum();
+    }
+}
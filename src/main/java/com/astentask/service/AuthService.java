@@ -64,15 +64,14 @@ public class AuthService {
     public AuthResponseDTO refreshToken(RefreshTokenRequestDTO request) {
         String oldRefreshToken = request.getRefreshToken();
 
-        if (!jwtUtil.isTokenValid(oldRefreshToken)) {
-            throw new RuntimeException("Refresh token inválido ou expirado");
-        }
+        JwtUtil.VerifiedToken verified = jwtUtil.verify(oldRefreshToken)
+                .orElseThrow(() -> new RuntimeException("Refresh token inválido ou expirado"));
 
-        if (jwtUtil.extractTokenType(oldRefreshToken) != JwtUtil.TokenType.REFRESH) {
+        if (verified.type() != JwtUtil.TokenType.REFRESH) {
             throw new RuntimeException("Token inválido para refresh");
         }
 
-        String email = jwtUtil.extractEmail(oldRefreshToken);
+        String email = verified.email();
         String savedRefreshToken = refreshTokenStore.get(email);
 
         if (!oldRefreshToken.equals(savedRefreshToken)) {
@@ -92,7 +91,9 @@ public class AuthService {
 
     public void logout(RefreshTokenRequestDTO request) {
         log.info("Usuário fazendo logout");
-        String email = jwtUtil.extractEmail(request.getRefreshToken());
+        String email = jwtUtil.verify(request.getRefreshToken())
+                .map(JwtUtil.VerifiedToken::email)
+                .orElseThrow(() -> new RuntimeException("Refresh token inválido ou expirado"));
         refreshTokenStore.remove(email);
     }
 }
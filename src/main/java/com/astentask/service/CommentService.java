@@ -2,6 +2,7 @@ package com.astentask.service;
 import com.astentask.dtos.CommentCreateDTO;
 import com.astentask.dtos.CommentDTO;
 import com.astentask.exception.ResourceNotFoundException;
+import com.astentask.live.LiveUpdatePublisher;
 import com.astentask.model.Comment;
 import com.astentask.model.Task;
 import com.astentask.model.User;
@@ -23,6 +24,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final LiveUpdatePublisher liveUpdates;
 
     public Page<CommentDTO> listComments(Long taskId, int page, int size, String sortBy, String direction) {
         Pageable pageable = PageRequest.of(page, size,
@@ -33,6 +35,13 @@ public class CommentService {
         return commentsPage.map(this::toDTO);
     }
 
+    public Slice<CommentDTO> listCommentsSlice(Long taskId, int page, int size, String sortBy, String direction) {
+        Pageable pageable = PageRequest.of(page, size,
+                "desc".equalsIgnoreCase(direction) ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending());
+
+        return commentRepository.findSliceByTaskId(taskId, pageable).map(this::toDTO);
+    }
+
     public CommentDTO addComment(Long taskId, CommentCreateDTO dto) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task não encontrada"));
@@ -46,6 +55,7 @@ public class CommentService {
                 .build();
 
         Comment saved = commentRepository.save(comment);
+        liveUpdates.commentsChanged(task.getProject().getId(), taskId);
 
         return toDTO(saved);
     }
@@ -57,6 +67,7 @@ public class CommentService {
         comment.setContent(dto.getContent());
 
         Comment updated = commentRepository.save(comment);
+        liveUpdates.commentsChanged(comment.getTask().getProject().getId(), comment.getTask().getId());
         return toDTO(updated);
     }
 
@@ -65,6 +76,7 @@ public class CommentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Comentário não encontrado"));
 
         commentRepository.delete(comment);
+        liveUpdates.commentsChanged(comment.getTask().getProject().getId(), comment.getTask().getId());
     }
 
     private User getLoggedUser() {
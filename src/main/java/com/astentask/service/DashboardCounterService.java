@@ -0,0 +1,104 @@
+package com.astentask.service;
+
+import com.astentask.model.CounterScope;
+import com.astentask.model.TaskStatus;
+import com.astentask.repositories.DashboardCounterKey;
+import com.astentask.repositories.DashboardCounterRepository;
+import com.astentask.repositories.TaskRef;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Mantém os contadores do dashboard (tarefas por status e minutos registrados, por usuário e por projeto).
+ * Os métodos de escrita exigem a transação de quem alterou os dados, para que contador e origem
+ * sejam confirmados ou desfeitos juntos.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardCounterService {
+
+    public static final String TASKS_TOTAL = "TASKS_TOTAL";
+    public static final String MINUTES_LOGGED = "MINUTES_LOGGED";
+
+    private final DashboardCounterRepository counterRepository;
+
+    public static String tasksMetric(TaskStatus status) {
+        return "TASKS_" + status.name();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void taskCreated(TaskRef task) {
+        tasksChanged(List.of(), List.of(task));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void taskUpdated(TaskRef before, TaskRef after) {
+        tasksChanged(List.of(before), List.of(after));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void taskDeleted(TaskRef task) {
+        tasksChanged(List.of(task), List.of());
+    }
+
+    /**
+     * Aplica a diferença entre o estado anterior e o novo de um conjunto de tarefas.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void tasksChanged(Collection<TaskRef> before, Collection<TaskRef> after) {
+        SortedMap<DashboardCounterKey, Long> deltas = new TreeMap<>();
+        before.forEach(task -> addTask(deltas, task, -1));
+        after.forEach(task -> addTask(deltas, task, 1));
+        counterRepository.addAll(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void minutesLogged(Long userId, Long projectId, long minutes) {
+        if (minutes == 0) {
+            return;
+        }
+        SortedMap<DashboardCounterKey, Long> deltas = new TreeMap<>();
+        add(deltas, CounterScope.USER, userId, MINUTES_LOGGED, minutes);
+        add(deltas, CounterScope.PROJECT, projectId, MINUTES_LOGGED, minutes);
+        counterRepository.addAll(deltas);
+    }
+
+    public Map<String, Long> countersFor(CounterScope scope, Long scopeId) {
+        return counterRepository.findByScope(scope, scopeId);
+    }
+
+    @Transactional
+    public long reconcile() {
+        long drifted = counterRepository.reconcile();
+        log.info("Contadores do dashboard reconciliados: {} divergentes corrigidos", drifted);
+        return drifted;
+    }
+
+    private void addTask(SortedMap<DashboardCounterKey, Long> deltas, TaskRef task, long sign) {
+        addTask(deltas, CounterScope.PROJECT, task.getProjectId(), task.getStatus(), sign);
+        if (task.getAssigneeId() != null) {
+            addTask(deltas, CounterScope.USER, task.getAssigneeId(), task.getStatus(), sign);
+        }
+    }
+
+    private void addTask(SortedMap<DashboardCounterKey, Long> deltas, CounterScope scope, Long scopeId, TaskStatus status, long sign) {
+        add(deltas, scope, scopeId, TASKS_TOTAL, sign);
+        if (status != null) {
+            add(deltas, scope, scopeId, tasksMetric(status), sign);
+        }
+    }
+
+    private void add(SortedMap<DashboardCounterKey, Long> deltas, CounterScope scope, Long scopeId, String metric, long delta) {
+        deltas.merge(new DashboardCounterKey(scope, scopeId, metric), delta, Long::sum);
+    }
+}
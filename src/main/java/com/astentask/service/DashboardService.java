@@ -3,12 +3,15 @@ package com.astentask.service;
 import com.astentask.dtos.DashboardOverviewDTO;
 import com.astentask.dtos.ProjectReportDTO;
 import com.astentask.dtos.TaskSummaryDTO;
+import com.astentask.dtos.pages.CursorPageResponseDTO;
+import com.astentask.exception.BadRequestException;
 import com.astentask.exception.ResourceNotFoundException;
 import com.astentask.model.*;
+import com.astentask.repositories.ProjectRepository;
 import com.astentask.repositories.TaskRepository;
-import com.astentask.repositories.TimeLogRepository;
 import com.astentask.repositories.UserRepository;
-import com.astentask.repositories.ProjectRepository;
+import com.astentask.specification.TaskCursor;
+import com.astentask.specification.TaskSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
@@ -18,6 +21,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -26,24 +32,21 @@ import java.util.Optional;
 public class DashboardService {
 
     private final TaskRepository taskRepository;
-    private final TimeLogRepository timeLogRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final DashboardCounterService counterService;
 
     public DashboardOverviewDTO getOverview(Long userId) {
-        Long totalTasks = taskRepository.countByAssigneeId(userId);
-        Long pendingTasks = taskRepository.countByAssigneeIdAndStatus(userId, TaskStatus.PENDING);
-        Long inProgressTasks = taskRepository.countByAssigneeIdAndStatus(userId, TaskStatus.IN_PROGRESS);
-        Long completedTasks = taskRepository.countByAssigneeIdAndStatus(userId, TaskStatus.COMPLETED);
-
-        Long totalTimeLogged = timeLogRepository.sumDurationByUserId(userId).orElse(0L);
+        Map<String, Long> counters = counterService.countersFor(CounterScope.USER, userId);
+        Map<String, Long> byStatus = tasksByStatus(counters);
 
         return DashboardOverviewDTO.builder()
-                .totalTasks(totalTasks)
-                .pendingTasks(pendingTasks)
-                .inProgressTasks(inProgressTasks)
-                .completedTasks(completedTasks)
-                .totalTimeLoggedMinutes(totalTimeLogged)
+                .totalTasks(counters.getOrDefault(DashboardCounterService.TASKS_TOTAL, 0L))
+                .pendingTasks(byStatus.get(TaskStatus.PENDING.name()))
+                .inProgressTasks(byStatus.get(TaskStatus.IN_PROGRESS.name()))
+                .completedTasks(byStatus.get(TaskStatus.COMPLETED.name()))
+                .tasksByStatus(byStatus)
+                .totalTimeLoggedMinutes(counters.getOrDefault(DashboardCounterService.MINUTES_LOGGED, 0L))
                 .build();
     }
 
@@ -53,65 +56,95 @@ public class DashboardService {
         Pageable pageable = PageRequest.of(page, size,
                 "desc".equalsIgnoreCase(direction) ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending());
 
-        Specification<Task> spec = (root, query, cb) -> cb.equal(root.get("assignee").get("id"), userId);
+        Specification<Task> spec = myTasksSpecification(userId, statusFilter, priorityFilter, dueDateStart, dueDateEnd);
+
+        return taskRepository.findAll(spec, pageable).map(this::toSummary);
+    }
+
+    public CursorPageResponseDTO<TaskSummaryDTO> getMyTasksByCursor(Long userId, int size, String sortBy, String direction,
+                                                                    String cursor,
+                                                                    Optional<String> statusFilter, Optional<String> priorityFilter,
+                                                                    Optional<LocalDateTime> dueDateStart, Optional<LocalDateTime> dueDateEnd) {
+        TaskCursor.checkPageSize(size);
+        Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        TaskCursor.checkSortable(sortBy);
+        TaskCursor after = (cursor == null || cursor.isBlank()) ? null : TaskCursor.decode(cursor, sortBy, sortDirection);
+
+        Specification<Task> spec = myTasksSpecification(userId, statusFilter, priorityFilter, dueDateStart, dueDateEnd)
+                .and(TaskSpecification.seekAfter(sortBy, sortDirection, after));
+
+        List<Task> rows = taskRepository.findBy(spec, query -> query.limit(size + 1).all());
+        return TaskCursor.toPage(rows, size, sortBy, sortDirection, this::toSummary);
+    }
+
+    private Specification<Task> myTasksSpecification(Long userId, Optional<String> statusFilter, Optional<String> priorityFilter,
+                                                     Optional<LocalDateTime> dueDateStart, Optional<LocalDateTime> dueDateEnd) {
+        Specification<Task> spec = TaskSpecification.hasAssigneeId(userId);
 
         if (statusFilter.isPresent()) {
             try {
                 TaskStatus statusEnum = TaskStatus.valueOf(statusFilter.get().toUpperCase());
-                spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), statusEnum));
+                spec = spec.and(TaskSpecification.hasStatus(statusEnum));
             } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("Status inválido: " + statusFilter.get());
+                throw new BadRequestException("Status inválido: " + statusFilter.get());
             }
         }
         if (priorityFilter.isPresent()) {
             try {
                 TaskPriority priorityEnum = TaskPriority.valueOf(priorityFilter.get().toUpperCase());
-                spec = spec.and((root, query, cb) -> cb.equal(root.get("priority"), priorityEnum));
+                spec = spec.and(TaskSpecification.hasPriority(priorityEnum));
             } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("Prioridade inválida: " + priorityFilter.get());
+                throw new BadRequestException("Prioridade inválida: " + priorityFilter.get());
             }
         }
         if (dueDateStart.isPresent()) {
-            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), dueDateStart.get()));
+            spec = spec.and(TaskSpecification.dueDateFrom(dueDateStart.get()));
         }
         if (dueDateEnd.isPresent()) {
-            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), dueDateEnd.get()));
+            spec = spec.and(TaskSpecification.dueDateUntil(dueDateEnd.get()));
         }
-
-        return taskRepository.findAll(spec, pageable)
-                .map(task -> TaskSummaryDTO.builder()
-                        .id(task.getId())
-                        .title(task.getTitle())
-                        .status(task.getStatus())
-                        .priority(task.getPriority())
-                        .dueDate(task.getDueDate())
-                        .build());
+        return spec;
     }
 
+    private TaskSummaryDTO toSummary(Task task) {
+        return TaskSummaryDTO.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .dueDate(task.getDueDate())
+                .build();
+    }
 
     public ProjectReportDTO getProjectReport(Long projectId) {
-        Project project = projectRepository.findById(projectId)
+        String projectName = projectRepository.findNameById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado"));
-
-        Long totalTasks = taskRepository.countByProjectId(projectId);
-        Long pendingTasks = taskRepository.countByProjectIdAndStatus(projectId, TaskStatus.PENDING);
-        Long inProgressTasks = taskRepository.countByProjectIdAndStatus(projectId, TaskStatus.IN_PROGRESS);
-        Long completedTasks = taskRepository.countByProjectIdAndStatus(projectId, TaskStatus.COMPLETED);
-
-
-        Long totalTimeLogged = timeLogRepository.sumDurationByProjectId(projectId).orElse(0L);
+        Map<String, Long> counters = counterService.countersFor(CounterScope.PROJECT, projectId);
+        Map<String, Long> byStatus = tasksByStatus(counters);
 
         return ProjectReportDTO.builder()
                 .projectId(projectId)
-                .projectName(project.getName())
-                .totalTasks(totalTasks)
-                .pendingTasks(pendingTasks)
-                .inProgressTasks(inProgressTasks)
-                .completedTasks(completedTasks)
-                .totalTimeLoggedMinutes(totalTimeLogged)
+                .projectName(projectName)
+                .totalTasks(counters.getOrDefault(DashboardCounterService.TASKS_TOTAL, 0L))
+                .pendingTasks(byStatus.get(TaskStatus.PENDING.name()))
+                .inProgressTasks(byStatus.get(TaskStatus.IN_PROGRESS.name()))
+                .completedTasks(byStatus.get(TaskStatus.COMPLETED.name()))
+                .tasksByStatus(byStatus)
+                .totalTimeLoggedMinutes(counters.getOrDefault(DashboardCounterService.MINUTES_LOGGED, 0L))
                 .build();
     }
 
+    /**
+     * Contagem por status com todos os valores de TaskStatus presentes, inclusive os zerados.
+     */
+    private Map<String, Long> tasksByStatus(Map<String, Long> counters) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status.name(), counters.getOrDefault(DashboardCounterService.tasksMetric(status), 0L));
+        }
+        return byStatus;
+    }
+
     public User getLoggedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String email = authentication.getName();
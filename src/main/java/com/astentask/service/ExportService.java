@@ -0,0 +1,193 @@
+package com.astentask.service;
+
+import com.astentask.dtos.TaskResponseDTO;
+import com.astentask.dtos.TimeLogDTO;
+import com.astentask.exception.ResourceNotFoundException;
+import com.astentask.mapper.TaskMapper;
+import com.astentask.model.ExportFormat;
+import com.astentask.model.Task;
+import com.astentask.model.TaskPriority;
+import com.astentask.model.TaskStatus;
+import com.astentask.model.TimeLog;
+import com.astentask.repositories.ProjectRepository;
+import com.astentask.repositories.SpecificationStreamExecutor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Exportação de tarefas e registros de tempo em CSV ou NDJSON. As linhas são lidas de um cursor do banco e
+ * escritas direto na resposta, uma a uma, sem montar páginas nem executar COUNT: a memória usada não depende
+ * do tamanho do projeto. Filtros e projeto são validados antes de a resposta começar.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final String[] TASK_COLUMNS = {
+            "id", "title", "description", "status", "priority", "dueDate",
+            "assigneeId", "assigneeName", "projectId", "createdAt", "updatedAt"};
+
+    private static final String[] TIME_LOG_COLUMNS = {
+            "id", "taskId", "userId", "startTime", "endTime", "durationInMinutes", "createdAt", "updatedAt"};
+
+    private final ProjectRepository projectRepository;
+    private final SpecificationStreamExecutor streamExecutor;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+
+    @Value("${astentask.export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * Aceita os mesmos filtros e ordenação da listagem de tarefas do projeto.
+     */
+    public StreamingResponseBody exportTasks(Long projectId, String title, String q, TaskStatus status, TaskPriority priority,
+                                             Long assigneeId, LocalDateTime startCreated, LocalDateTime endCreated,
+                                             Sort sort, ExportFormat format) {
+        requireProject(projectId);
+        Specification<Task> spec = TaskService.listSpecification(
+                projectId, title, q, status, priority, assigneeId, startCreated, endCreated, sort);
+        Sort order = sort.getOrderFor(TaskService.SORT_BY_RELEVANCE) == null ? sort.and(Sort.by("id")) : Sort.unsorted();
+
+        log.info("Exportando tarefas do projeto {} em {}", projectId, format);
+        return body(Task.class, spec, order, format, TASK_COLUMNS, taskMapper::toDTO, ExportService::taskRow, "assignee");
+    }
+
+    public StreamingResponseBody exportTimeLogs(Long projectId, Long userId, LocalDateTime startDate, LocalDateTime endDate,
+                                                ExportFormat format) {
+        requireProject(projectId);
+        Specification<TimeLog> spec = (root, query, cb) -> cb.equal(root.get("task").get("project").get("id"), projectId);
+        if (userId != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("user").get("id"), userId));
+        }
+        if (startDate != null) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startTime"), startDate));
+        }
+        if (endDate != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("startTime"), endDate));
+        }
+
+        log.info("Exportando registros de tempo do projeto {} em {}", projectId, format);
+        return body(TimeLog.class, spec, Sort.by("startTime", "id"), format, TIME_LOG_COLUMNS,
+                TimeLogService::toDTO, ExportService::timeLogRow);
+    }
+
+    private void requireProject(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Projeto não encontrado");
+        }
+    }
+
+    /**
+     * Cada entidade é desanexada logo depois de convertida; a cada fetchSize linhas o contexto é limpo
+     * para descartar também as associações carregadas com ela.
+     */
+    private <T, D> StreamingResponseBody body(Class<T> type, Specification<T> spec, Sort sort, ExportFormat format,
+                                              String[] columns, Function<T, D> toDTO, Function<D, Object[]> toRow,
+                                              String... fetchAttributes) {
+        return out -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            long start = System.currentTimeMillis();
+
+            Long rows = readOnly.execute(tx -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                try (Stream<T> stream = streamExecutor.stream(type, spec, sort, fetchSize, fetchAttributes)) {
+                    if (format == ExportFormat.CSV) {
+                        writeCsvLine(writer, columns);
+                    }
+                    long count = 0;
+                    Iterator<T> iterator = stream.iterator();
+                    while (iterator.hasNext()) {
+                        T entity = iterator.next();
+                        D dto = toDTO.apply(entity);
+                        entityManager.detach(entity);
+
+                        if (format == ExportFormat.CSV) {
+                            writeCsvLine(writer, toRow.apply(dto));
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(dto));
+                            writer.write('\n');
+                        }
+                        if (++count % fetchSize == 0) {
+                            entityManager.clear();
+                        }
+                    }
+                    writer.flush();
+                    return count;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.info("Exportação de {} concluída: {} linhas em {} ms", type.getSimpleName(), rows, System.currentTimeMillis() - start);
+        };
+    }
+
+    private static Object[] taskRow(TaskResponseDTO task) {
+        return new Object[]{
+                task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(), task.getDueDate(),
+                task.getAssigneeId(), task.getAssigneeName(), task.getProjectId(), task.getCreatedAt(), task.getUpdatedAt()};
+    }
+
+    private static Object[] timeLogRow(TimeLogDTO timeLog) {
+        return new Object[]{
+                timeLog.getId(), timeLog.getTaskId(), timeLog.getUserId(), timeLog.getStartTime(), timeLog.getEndTime(),
+                timeLog.getDurationInMinutes(), timeLog.getCreatedAt(), timeLog.getUpdatedAt()};
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof CharSequence && isFormulaLike(text)) {
+            // Planilhas executam células que começam com = + - @ como fórmula; o apóstrofo força texto.
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private static boolean isFormulaLike(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
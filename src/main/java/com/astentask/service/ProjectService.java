@@ -8,26 +8,39 @@ import com.astentask.exception.ResourceNotFoundException;
 import com.astentask.mapper.ProjectMapper;
 import com.astentask.mapper.TaskMapper;
 import com.astentask.model.*;
+import com.astentask.config.AsyncConfig;
+import com.astentask.config.ProjectCacheGenerations;
 import com.astentask.repositories.ProjectRepository;
+import com.astentask.repositories.SpecificationSliceExecutor;
 import com.astentask.repositories.TaskRepository;
+import com.astentask.repositories.TaskStatusPriorityCount;
 import com.astentask.specification.ProjectSpecification;
 import com.astentask.specification.TaskSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
@@ -37,9 +50,14 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
+    private final SpecificationSliceExecutor sliceExecutor;
+    private final PlatformTransactionManager transactionManager;
+    private final ProjectCacheGenerations cacheGenerations;
+    @Qualifier(AsyncConfig.QUERY_EXECUTOR)
+    private final Executor queryExecutor;
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "projectsByUser", key = "T(java.util.Objects).hash(#user != null ? #user.id : 0, #name, #startDate, #endDate, #page, #size, #sortBy, #direction)")
+    @Cacheable(value = "projectsByUser", key = "new org.springframework.cache.interceptor.SimpleKey(#user != null ? #user.id : 0, #name, #startDate, #endDate, #page, #size, #sortBy, #direction)")
     public Page<ProjectResponseDTO> listProjectByUser(
             User user,
             String name,
@@ -114,9 +132,14 @@ public class ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado!"));
 
         projectRepository.delete(project);
+        cacheGenerations.forget(id);
         log.info("Projeto deletado id {}", id);
     }
 
+    /**
+     * Os histogramas e o percentual de conclusão vêm de um GROUP BY sobre todas as tarefas do
+     * filtro; a página é buscada em paralelo, sem COUNT, usando o total do agregado.
+     */
     public ProjectStatsDTO getProjectStatsFiltered(
             Long projectId,
             String statusFilter,
@@ -141,26 +164,46 @@ public class ProjectService {
             spec = spec.and(TaskSpecification.createdBetween(startCreated, endCreated));
         }
 
-        Page<Task> filteredPage = taskRepository.findAll(spec, pageable);
+        Specification<Task> filter = spec;
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
 
-        long total = filteredPage.getTotalElements();
+        CompletableFuture<List<TaskStatusPriorityCount>> counts = CompletableFuture.supplyAsync(
+                () -> readOnly.execute(tx -> taskRepository.countByStatusAndPriority(filter)),
+                queryExecutor);
+        CompletableFuture<Slice<TaskResponseDTO>> slice = CompletableFuture.supplyAsync(
+                () -> readOnly.execute(tx -> sliceExecutor.findSlice(Task.class, filter, pageable, "assignee")
+                        .map(taskMapper::toDTO)),
+                queryExecutor);
 
-        Map<String, Long> byStatus = filteredPage.stream()
-                .collect(Collectors.groupingBy(
-                        t -> t.getStatus().name(),
-                        Collectors.counting()
-                ));
+        List<TaskStatusPriorityCount> rows = await(counts);
+        Slice<TaskResponseDTO> tasks = await(slice);
 
-        Map<String, Long> byPriority = filteredPage.stream()
-                .collect(Collectors.groupingBy(
-                        t -> t.getPriority().name(),
-                        Collectors.counting()
-                ));
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status.name(), 0L);
+        }
+        Map<String, Long> byPriority = new LinkedHashMap<>();
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority.name(), 0L);
+        }
+
+        long total = 0;
+        for (TaskStatusPriorityCount row : rows) {
+            // Tarefas sem status ou prioridade entram no total, mas em nenhum grupo, como nos contadores do dashboard.
+            if (row.getStatus() != null) {
+                byStatus.merge(row.getStatus().name(), row.getCount(), Long::sum);
+            }
+            if (row.getPriority() != null) {
+                byPriority.merge(row.getPriority().name(), row.getCount(), Long::sum);
+            }
+            total += row.getCount();
+        }
 
-        long doneCount = byStatus.getOrDefault("DONE", 0L);
-        double completionPercentage = total > 0 ? (doneCount * 100.0) / total : 0.0;
+        long completedCount = byStatus.get(TaskStatus.COMPLETED.name());
+        double completionPercentage = total > 0 ? (completedCount * 100.0) / total : 0.0;
 
-        Page<TaskResponseDTO> dtoPage = filteredPage.map(taskMapper::toDTO);
+        Page<TaskResponseDTO> dtoPage = new PageImpl<>(tasks.getContent(), pageable, total);
 
         return new ProjectStatsDTO(
                 projectId,
@@ -171,4 +214,15 @@ public class ProjectService {
                 dtoPage
         );
     }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 }
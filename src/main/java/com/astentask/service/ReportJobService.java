@@ -0,0 +1,253 @@
+package com.astentask.service;
+
+import com.astentask.config.AsyncConfig;
+import com.astentask.dtos.AssigneeBreakdownReportDTO;
+import com.astentask.dtos.AssigneeReportDTO;
+import com.astentask.dtos.ReportJobDTO;
+import com.astentask.dtos.ReportJobRequestDTO;
+import com.astentask.exception.BadRequestException;
+import com.astentask.exception.ReportNotReadyException;
+import com.astentask.exception.ReportQueueFullException;
+import com.astentask.exception.ResourceNotFoundException;
+import com.astentask.model.ReportJobStatus;
+import com.astentask.model.ReportType;
+import com.astentask.model.TaskStatus;
+import com.astentask.model.TimeBucketGranularity;
+import com.astentask.repositories.ProjectRepository;
+import com.astentask.repositories.TaskRepository;
+import com.astentask.repositories.TimeLogBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Relatórios pesados executados fora da thread da requisição. Cada pedido vira um job consultável pelo ID;
+ * pedidos com os mesmos parâmetros compartilham a execução em andamento ou o resultado já em cache.
+ * Jobs e resultados ficam nos caches reportJobs e reportResults e expiram com eles.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportJobService {
+
+    public static final String JOBS_CACHE = "reportJobs";
+    public static final String RESULTS_CACHE = "reportResults";
+
+    private final DashboardService dashboardService;
+    private final TimeLogAnalyticsService analyticsService;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TimeLogBucketRepository bucketRepository;
+    private final CacheManager cacheManager;
+    @Qualifier(AsyncConfig.REPORT_EXECUTOR)
+    private final Executor reportExecutor;
+
+    private final ConcurrentMap<String, ReportExecution> inFlight = new ConcurrentHashMap<>();
+
+    public ReportJobDTO submit(ReportJobRequestDTO request, String owner) {
+        validate(request);
+        String key = resultKey(request);
+
+        Cache.ValueWrapper cached = results().get(key);
+        ReportExecution execution = cached != null
+                ? ReportExecution.completed(cached.get())
+                : inFlight.computeIfAbsent(key, k -> start(k, request));
+
+        ReportJob job = new ReportJob(UUID.randomUUID().toString(), owner, request, LocalDateTime.now(), execution);
+        jobs().put(job.id(), job);
+        log.info("Job de relatório {} criado: tipo={}, chave={}, em cache={}", job.id(), request.getType(), key, cached != null);
+        return toDTO(job);
+    }
+
+    public ReportJobDTO getJob(String jobId, String owner) {
+        return toDTO(find(jobId, owner));
+    }
+
+    public Object getResult(String jobId, String owner) {
+        ReportExecution execution = find(jobId, owner).execution();
+        return switch (execution.status()) {
+            case COMPLETED -> execution.result;
+            case FAILED -> throw new ReportNotReadyException("Relatório falhou: " + execution.error);
+            default -> throw new ReportNotReadyException("Relatório ainda em processamento");
+        };
+    }
+
+    private ReportJob find(String jobId, String owner) {
+        ReportJob job = jobs().get(jobId, ReportJob.class);
+        if (job == null || !job.owner().equals(owner)) {
+            throw new ResourceNotFoundException("Job de relatório não encontrado");
+        }
+        return job;
+    }
+
+    private void validate(ReportJobRequestDTO request) {
+        if (request.getType() == ReportType.TIME_ANALYSIS) {
+            if (request.getFrom() == null || request.getTo() == null) {
+                throw new BadRequestException("TIME_ANALYSIS exige from e to");
+            }
+            if (request.getFrom().isAfter(request.getTo())) {
+                throw new BadRequestException("Data inicial deve ser anterior ou igual à data final");
+            }
+            if (request.getGranularity() != null) {
+                try {
+                    TimeBucketGranularity.valueOf(request.getGranularity().toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    throw new BadRequestException("Granularidade inválida: " + request.getGranularity());
+                }
+            }
+        } else if (request.getProjectId() == null) {
+            throw new BadRequestException(request.getType() + " exige projectId");
+        }
+        if (request.getProjectId() != null && !projectRepository.existsById(request.getProjectId())) {
+            throw new ResourceNotFoundException("Projeto não encontrado");
+        }
+    }
+
+    private ReportExecution start(String key, ReportJobRequestDTO request) {
+        ReportExecution execution = new ReportExecution();
+        try {
+            reportExecutor.execute(() -> run(key, request, execution));
+        } catch (RejectedExecutionException e) {
+            throw new ReportQueueFullException("Fila de relatórios cheia, tente novamente em instantes");
+        }
+        return execution;
+    }
+
+    private void run(String key, ReportJobRequestDTO request, ReportExecution execution) {
+        execution.startedAt = LocalDateTime.now();
+        try {
+            Object result = compute(request);
+            results().put(key, result);
+            execution.result = result;
+            log.info("Relatório {} concluído", key);
+        } catch (RuntimeException e) {
+            log.error("Falha ao gerar relatório {}", key, e);
+            execution.error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        } finally {
+            execution.finishedAt = LocalDateTime.now();
+            inFlight.remove(key, execution);
+        }
+    }
+
+    private Object compute(ReportJobRequestDTO request) {
+        return switch (request.getType()) {
+            case PROJECT_SUMMARY -> dashboardService.getProjectReport(request.getProjectId());
+            case ASSIGNEE_BREAKDOWN -> assigneeBreakdown(request.getProjectId());
+            case TIME_ANALYSIS -> analyticsService.series("user",
+                    request.getGranularity() != null ? request.getGranularity() : "week",
+                    request.getFrom(), request.getTo(), null, request.getProjectId(), null);
+        };
+    }
+
+    /**
+     * Tarefas por status e minutos registrados de cada pessoa do projeto; tarefas sem responsável
+     * aparecem numa linha com userId nulo.
+     */
+    private AssigneeBreakdownReportDTO assigneeBreakdown(Long projectId) {
+        String projectName = projectRepository.findNameById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado"));
+        Map<Long, AssigneeReportDTO> byUser = new LinkedHashMap<>();
+
+        for (Object[] row : taskRepository.countTasksGroupedByAssigneeAndStatusRaw(projectId)) {
+            AssigneeReportDTO assignee = byUser.computeIfAbsent((Long) row[0], id -> newAssignee(id, (String) row[1]));
+            long count = (Long) row[3];
+            assignee.setTotalTasks(assignee.getTotalTasks() + count);
+            if (row[2] != null) {
+                assignee.getTasksByStatus().merge(((TaskStatus) row[2]).name(), count, Long::sum);
+            }
+        }
+        for (Object[] row : bucketRepository.sumMinutesByUser(projectId)) {
+            byUser.computeIfAbsent((Long) row[0], id -> newAssignee(id, (String) row[1]))
+                    .setMinutesLogged((Long) row[2]);
+        }
+
+        return AssigneeBreakdownReportDTO.builder()
+                .projectId(projectId)
+                .projectName(projectName)
+                .assignees(new ArrayList<>(byUser.values()))
+                .build();
+    }
+
+    private static AssigneeReportDTO newAssignee(Long userId, String name) {
+        AssigneeReportDTO assignee = new AssigneeReportDTO();
+        assignee.setUserId(userId);
+        assignee.setName(name);
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status.name(), 0L);
+        }
+        assignee.setTasksByStatus(byStatus);
+        return assignee;
+    }
+
+    private static String resultKey(ReportJobRequestDTO request) {
+        String granularity = request.getGranularity() != null ? request.getGranularity().toUpperCase() : "";
+        return String.join("|", request.getType().name(), String.valueOf(request.getProjectId()),
+                String.valueOf(request.getFrom()), String.valueOf(request.getTo()), granularity);
+    }
+
+    private ReportJobDTO toDTO(ReportJob job) {
+        ReportExecution execution = job.execution();
+        return ReportJobDTO.builder()
+                .id(job.id())
+                .type(job.request().getType())
+                .projectId(job.request().getProjectId())
+                .status(execution.status())
+                .submittedAt(job.submittedAt())
+                .startedAt(execution.startedAt)
+                .finishedAt(execution.finishedAt)
+                .error(execution.error)
+                .build();
+    }
+
+    private Cache jobs() {
+        return Objects.requireNonNull(cacheManager.getCache(JOBS_CACHE));
+    }
+
+    private Cache results() {
+        return Objects.requireNonNull(cacheManager.getCache(RESULTS_CACHE));
+    }
+
+    private record ReportJob(String id, String owner, ReportJobRequestDTO request, LocalDateTime submittedAt,
+                             ReportExecution execution) {
+    }
+
+    /**
+     * Execução compartilhada pelos jobs com os mesmos parâmetros. finishedAt é escrito por último.
+     */
+    private static final class ReportExecution {
+        private volatile LocalDateTime startedAt;
+        private volatile Object result;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        static ReportExecution completed(Object result) {
+            ReportExecution execution = new ReportExecution();
+            execution.startedAt = LocalDateTime.now();
+            execution.result = result;
+            execution.finishedAt = execution.startedAt;
+            return execution;
+        }
+
+        ReportJobStatus status() {
+            if (finishedAt != null) {
+                return error != null ? ReportJobStatus.FAILED : ReportJobStatus.COMPLETED;
+            }
+            return startedAt != null ? ReportJobStatus.RUNNING : ReportJobStatus.QUEUED;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.astentask.service;
+
+import com.astentask.dtos.ProjectStorageUsageDTO;
+import com.astentask.exception.ResourceNotFoundException;
+import com.astentask.exception.StorageQuotaExceededException;
+import com.astentask.repositories.ProjectRepository;
+import com.astentask.repositories.ProjectStorageUsageRepository;
+import com.astentask.repositories.ProjectStorageUsageRepository.Usage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Espaço ocupado pelos anexos de cada projeto e a cota de cada um. O uso conta o tamanho original dos anexos
+ * (o que o usuário enviou), não o gravado no storage depois de comprimido ou deduplicado.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageQuotaService {
+
+    private final ProjectStorageUsageRepository usageRepository;
+    private final ProjectRepository projectRepository;
+
+    @Value("${astentask.storage.quota.default-per-project:10GB}")
+    private DataSize defaultQuota;
+
+    /**
+     * Recusa um upload que não cabe no que resta da cota, antes de qualquer byte ser copiado. É só uma
+     * verificação antecipada: quem garante a cota é {@link #reserve}.
+     */
+    @Transactional(readOnly = true)
+    public void checkQuota(Long projectId, long bytes) {
+        Usage usage = usageRepository.find(projectId).orElse(new Usage(0, 0, null));
+        long quota = quotaOf(usage);
+        if (usage.usedBytes() + bytes > quota) {
+            throw exceeded(quota, usage.usedBytes());
+        }
+    }
+
+    /**
+     * Soma o anexo ao uso do projeto na transação do upload; se não couber mais (uploads concorrentes),
+     * lança {@link StorageQuotaExceededException} e o upload é desfeito.
+     */
+    @Transactional
+    public void reserve(Long projectId, long bytes) {
+        if (!usageRepository.add(projectId, bytes, defaultQuota.toBytes())) {
+            Usage usage = usageRepository.find(projectId).orElseThrow();
+            throw exceeded(quotaOf(usage), usage.usedBytes());
+        }
+    }
+
+    @Transactional
+    public void release(Long projectId, long bytes) {
+        usageRepository.remove(projectId, bytes);
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectStorageUsageDTO getUsage(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Projeto não encontrado!");
+        }
+        Usage usage = usageRepository.find(projectId).orElse(new Usage(0, 0, null));
+        return new ProjectStorageUsageDTO(projectId, usage.usedBytes(), usage.attachments(),
+                quotaOf(usage), usage.quotaBytes() == null);
+    }
+
+    /**
+     * Define a cota do projeto; {@code null} volta para a cota padrão. Uma cota abaixo do uso atual só
+     * impede novos uploads.
+     */
+    @Transactional
+    public ProjectStorageUsageDTO setQuota(Long projectId, Long quotaBytes) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Projeto não encontrado!");
+        }
+        usageRepository.setQuota(projectId, quotaBytes);
+        log.info("Cota de armazenamento do projeto {} alterada para {}", projectId,
+                quotaBytes != null ? quotaBytes + " bytes" : "a padrão");
+        return getUsage(projectId);
+    }
+
+    private long quotaOf(Usage usage) {
+        return usage.quotaBytes() != null ? usage.quotaBytes() : defaultQuota.toBytes();
+    }
+
+    private static StorageQuotaExceededException exceeded(long quota, long used) {
+        return new StorageQuotaExceededException("Cota de armazenamento do projeto excedida: "
+                + used + " de " + quota + " bytes em uso");
+    }
+}
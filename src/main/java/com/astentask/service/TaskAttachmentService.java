@@ -1,73 +1,267 @@
 package com.astentask.service;
 
 import com.astentask.dtos.TaskAttachmentDTO;
+import com.astentask.exception.BadRequestException;
 import com.astentask.exception.ResourceNotFoundException;
+import com.astentask.model.AttachmentVariant;
 import com.astentask.model.Task;
 import com.astentask.model.TaskAttachment;
+import com.astentask.repositories.AttachmentBlobRepository;
+import com.astentask.repositories.TaskAttachmentContentRepository;
 import com.astentask.repositories.TaskAttachmentRepository;
 import com.astentask.repositories.TaskRepository;
+import com.astentask.storage.AttachmentCompression;
+import com.astentask.storage.AttachmentStorage;
+import com.astentask.storage.StoredObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@Transactional
 public class TaskAttachmentService {
 
     private final TaskAttachmentRepository attachmentRepository;
     private final TaskRepository taskRepository;
+    private final TaskAttachmentContentRepository contentRepository;
+    private final AttachmentBlobRepository blobRepository;
+    private final AttachmentStorage storage;
+    private final AttachmentCompression compression;
+    private final AttachmentDerivativeService derivativeService;
+    private final StorageQuotaService quotaService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * O arquivo é copiado do corpo multipart para o storage em blocos, calculando o SHA-256 do conteúdo original
+     * e comprimindo no caminho quando o tipo permite. Se o conteúdo já existe (mesmo checksum), o anexo passa a
+     * apontar para a cópia existente e a recém-gravada é descartada; se a transação não confirmar, o conteúdo
+     * gravado é removido. Um arquivo que não cabe na cota do projeto é recusado antes da cópia.
+     */
+    @Transactional(rollbackFor = IOException.class)
     public TaskAttachmentDTO saveAttachment(Long taskId, MultipartFile file) throws IOException {
+        try (InputStream content = file.getInputStream()) {
+            return saveAttachment(taskId, file.getOriginalFilename(), file.getContentType(), file.getSize(), content);
+        }
+    }
+
+    /**
+     * Mesmo fluxo do upload multipart para um conteúdo já disponível em stream (uploads em partes, por exemplo).
+     * O stream é fechado ao final.
+     */
+    @Transactional(rollbackFor = IOException.class)
+    public TaskAttachmentDTO saveAttachment(Long taskId, String filename, String contentType, long size,
+                                            InputStream source) throws IOException {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task não encontrada"));
+        Long projectId = task.getProject().getId();
+        quotaService.checkQuota(projectId, size);
+
+        String encoding = compression.encodingFor(contentType);
+        MessageDigest digest = sha256();
+        StoredObject stored;
+        try (InputStream content = compression.encode(new DigestInputStream(source, digest), encoding)) {
+            stored = storage.store(content);
+        }
+        deleteContentOnRollback(stored.key());
+
+        quotaService.reserve(projectId, size);
+        String checksum = HexFormat.of().formatHex(digest.digest());
+        AttachmentBlobRepository.Blob blob = blobRepository.acquire(checksum, stored.key(), stored.size(), encoding);
+        if (!blob.storageKey().equals(stored.key())) {
+            deleteQuietly(stored.key());
+            log.debug("Conteúdo {} já existia no storage; anexo reaproveita {}", checksum, blob.storageKey());
+        }
 
         TaskAttachment attachment = TaskAttachment.builder()
-                .filename(file.getOriginalFilename())
-                .fileType(file.getContentType())
-                .data(file.getBytes())
+                .filename(filename)
+                .fileType(contentType)
+                .storageKey(blob.storageKey())
+                .contentEncoding(blob.contentEncoding())
+                .size(size)
+                .checksum(checksum)
                 .task(task)
                 .build();
 
         TaskAttachment saved = attachmentRepository.save(attachment);
+        eventPublisher.publishEvent(
+                new AttachmentStoredEvent(checksum, blob.storageKey(), blob.contentEncoding(), contentType));
+        log.info("Anexo {} salvo na tarefa {} ({} bytes, {} no storage)",
+                saved.getId(), taskId, size, stored.size());
 
-        return new TaskAttachmentDTO(saved.getId(), saved.getFilename(), saved.getFileType());
+        return mapToDTO(saved);
     }
 
+    @Transactional(readOnly = true)
     public List<TaskAttachmentDTO> getAttachmentsByTaskId(Long taskId) {
-        List<TaskAttachment> attachments = attachmentRepository.findByTaskId(taskId);
-        return attachments.stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return attachmentRepository.findMetadataByTaskId(taskId);
     }
 
-    public byte[] getAttachmentData(Long attachmentId) {
-        TaskAttachment attachment = attachmentRepository.findById(attachmentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Attachment não encontrado"));
-        return attachment.getData();
+    /**
+     * Conteúdo do anexo para download. Conteúdo comprimido vai como está, com Content-Encoding, quando o cliente
+     * aceita o encoding; senão é descomprimido em stream. Nada é lido aqui: o arquivo só é aberto na escrita
+     * da resposta, e apenas no trecho pedido quando há Range.
+     * <p>
+     * Com {@code variant} (imagens), devolve a miniatura ou prévia gerada; se ela ainda não existe, a geração
+     * é pedida e o download cai para o arquivo original.
+     */
+    @Transactional(readOnly = true)
+    public AttachmentDownload getDownload(TaskAttachment attachment, String acceptEncoding, String variant) {
+        String key = attachment.getStorageKey();
+        if (variant != null) {
+            AttachmentVariant requested = AttachmentVariant.from(variant);
+            boolean image = derivativeService.supports(attachment.getFileType());
+            if (key == null || attachment.getChecksum() == null || !image) {
+                throw new BadRequestException("Variantes disponíveis apenas para imagens");
+            }
+            Optional<AttachmentDownload> derivative = derivativeService.find(attachment.getChecksum(), requested)
+                    .filter(found -> storage.exists(found.storageKey()))
+                    .map(found -> new AttachmentDownload(storage.resource(found.storageKey()), null,
+                            "\"" + attachment.getChecksum() + "-" + requested.name().toLowerCase() + "\"",
+                            found.contentType()));
+            if (derivative.isPresent()) {
+                return derivative.get();
+            }
+            derivativeService.request(attachment.getChecksum(), key, attachment.getContentEncoding());
+        }
+
+        if (key == null) {
+            Resource legacy = contentRepository.findById(attachment.getId())
+                    .map(content -> new ByteArrayResource(content.getData()))
+                    .orElseThrow(() -> new ResourceNotFoundException("Conteúdo do anexo não encontrado"));
+            return new AttachmentDownload(legacy, null, eTag(attachment, null), null);
+        }
+        if (!storage.exists(key)) {
+            throw new ResourceNotFoundException("Conteúdo do anexo não encontrado");
+        }
+
+        Resource stored = storage.resource(key);
+        String encoding = attachment.getContentEncoding();
+        if (encoding == null || AttachmentCompression.accepts(acceptEncoding, encoding)) {
+            return new AttachmentDownload(stored, encoding, eTag(attachment, encoding), null);
+        }
+        // InputStreamResource fica fora do suporte a Range do Spring: o corpo descomprimido vai inteiro.
+        Resource decoded = new InputStreamResource(() -> compression.decode(stored.getInputStream(), encoding));
+        return new AttachmentDownload(decoded, null, eTag(attachment, null), null);
     }
 
     public void deleteAttachment(Long attachmentId) {
         TaskAttachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Attachment não encontrado"));
-        attachmentRepository.delete(attachment);
+        delete(attachment);
     }
 
+    /**
+     * Remove os anexos de uma tarefa que está sendo excluída, na mesma transação, liberando o conteúdo e o
+     * espaço do projeto como na exclusão de um anexo.
+     */
+    public void deleteTaskAttachments(Long taskId) {
+        List<TaskAttachment> attachments = attachmentRepository.findAllByTaskId(taskId);
+        attachments.forEach(this::delete);
+        if (!attachments.isEmpty()) {
+            log.info("{} anexos removidos com a tarefa {}", attachments.size(), taskId);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public TaskAttachment getAttachment(Long attachmentId) {
         return attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Attachment não encontrado"));
     }
 
+    private void delete(TaskAttachment attachment) {
+        attachmentRepository.delete(attachment);
+        if (attachment.getSize() != null) {
+            quotaService.release(attachment.getTask().getProject().getId(), attachment.getSize());
+        }
+        if (attachment.getStorageKey() == null) {
+            return;
+        }
+        if (attachment.getChecksum() != null) {
+            // O conteúdo pode ser compartilhado: só é apagado (com as miniaturas) quando sai a última referência.
+            blobRepository.release(attachment.getChecksum()).forEach(this::deleteContentAfterCommit);
+        } else {
+            deleteContentAfterCommit(attachment.getStorageKey());
+        }
+    }
+
+    /**
+     * O conteúdo de um anexo nunca muda depois do upload: o checksum identifica a versão e, na falta dele,
+     * a chave no storage. A representação comprimida tem um ETag próprio.
+     */
+    private static String eTag(TaskAttachment attachment, String encoding) {
+        String version;
+        if (attachment.getChecksum() != null) {
+            version = attachment.getChecksum();
+        } else {
+            String key = attachment.getStorageKey();
+            version = attachment.getId() + "-" + (key != null ? key.substring(key.lastIndexOf('/') + 1) : "db");
+        }
+        return "\"" + version + (encoding != null ? "-" + encoding : "") + "\"";
+    }
+
+    private void deleteContentOnRollback(String key) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    deleteQuietly(key);
+                }
+            }
+        });
+    }
+
+    private void deleteContentAfterCommit(String key) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteQuietly(key);
+            }
+        });
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            storage.delete(key);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o conteúdo {} do storage: {}", key, e.getMessage());
+        }
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private TaskAttachmentDTO mapToDTO(TaskAttachment attachment) {
         return TaskAttachmentDTO.builder()
                 .id(attachment.getId())
                 .filename(attachment.getFilename())
                 .fileType(attachment.getFileType())
+                .size(attachment.getSize())
+                .checksum(attachment.getChecksum())
+                .uploadedAt(attachment.getUploadedAt())
                 .build();
     }
-}
\ No newline at end of file
+}
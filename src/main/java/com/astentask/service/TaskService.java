@@ -1,8 +1,18 @@
 package com.astentask.service;
 
+import com.astentask.config.ProjectCacheGenerations;
+import com.astentask.dtos.BulkItemResultDTO;
+import com.astentask.dtos.BulkUpdateResultDTO;
+import com.astentask.dtos.TaskBulkAssignRequestDTO;
+import com.astentask.dtos.TaskBulkCreateResponseDTO;
+import com.astentask.dtos.TaskBulkStatusRequestDTO;
+import com.astentask.dtos.TaskFilterDTO;
 import com.astentask.dtos.TaskRequestDTO;
 import com.astentask.dtos.TaskResponseDTO;
+import com.astentask.dtos.pages.CursorPageResponseDTO;
+import com.astentask.exception.BadRequestException;
 import com.astentask.exception.ResourceNotFoundException;
+import com.astentask.live.LiveUpdatePublisher;
 import com.astentask.mapper.TaskMapper;
 import com.astentask.model.Project;
 import com.astentask.model.Task;
@@ -10,19 +20,34 @@ import com.astentask.model.TaskPriority;
 import com.astentask.model.TaskStatus;
 import com.astentask.model.User;
 import com.astentask.repositories.ProjectRepository;
+import com.astentask.repositories.TaskRef;
+import com.astentask.repositories.SpecificationSliceExecutor;
 import com.astentask.repositories.TaskRepository;
 import com.astentask.repositories.UserRepository;
+import com.astentask.specification.TaskCursor;
 import com.astentask.specification.TaskSpecification;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,40 +55,85 @@ import java.time.LocalDateTime;
 @Slf4j
 public class TaskService {
 
+    public static final String SORT_BY_RELEVANCE = "relevance";
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final TaskMapper taskMapper;
+    private final ProjectCacheGenerations cacheGenerations;
+    private final Validator validator;
+    private final CacheManager cacheManager;
+    private final SpecificationSliceExecutor sliceExecutor;
+    private final DashboardCounterService counterService;
+    private final LiveUpdatePublisher liveUpdates;
+    private final TaskAttachmentService attachmentService;
+
+    @Value("${astentask.tasks.bulk.max-items:10000}")
+    private int bulkMaxItems;
 
-    @Cacheable(value = "tasksSearch", key = "T(java.util.Objects).hash(#projectId, #title, #status, #priority, #assigneeId, #startCreated, #endCreated, #pageable.pageNumber, #pageable.pageSize, #pageable.sort.toString())")
-    public Page<TaskResponseDTO> listTasks(Long projectId, String title, TaskStatus status, TaskPriority priority,
+    @Cacheable(value = "tasksSearch", key = "new org.springframework.cache.interceptor.SimpleKey(@projectCacheGenerations.current(#projectId), #projectId, #title, #q, #status, #priority, #assigneeId, #startCreated, #endCreated, #pageable.pageNumber, #pageable.pageSize, #pageable.sort.toString())")
+    public Page<TaskResponseDTO> listTasks(Long projectId, String title, String q, TaskStatus status, TaskPriority priority,
                                            Long assigneeId, LocalDateTime startCreated, LocalDateTime endCreated,
                                            Pageable pageable) {
 
-        Specification<Task> spec = null;
+        Specification<Task> spec = listSpecification(projectId, title, q, status, priority, assigneeId, startCreated, endCreated, pageable.getSort());
 
-        if (projectId != null) {
-            spec = TaskSpecification.belongsToProject(projectId);
-        }
+        Page<Task> tasks = taskRepository.findAll(spec, withoutRelevance(pageable));
+        return tasks.map(taskMapper::toDTO);
+    }
 
-        if (title != null && !title.isBlank()) {
-            spec = (spec == null) ? TaskSpecification.hasTitle(title) : spec.and(TaskSpecification.hasTitle(title));
-        }
-        if (status != null) {
-            spec = (spec == null) ? TaskSpecification.hasStatus(status) : spec.and(TaskSpecification.hasStatus(status));
-        }
-        if (priority != null) {
-            spec = (spec == null) ? TaskSpecification.hasPriority(priority) : spec.and(TaskSpecification.hasPriority(priority));
-        }
-        if (assigneeId != null) {
-            spec = (spec == null) ? TaskSpecification.hasAssigneeId(assigneeId) : spec.and(TaskSpecification.hasAssigneeId(assigneeId));
+    @Cacheable(value = "tasksSearch", key = "new org.springframework.cache.interceptor.SimpleKey('slice', @projectCacheGenerations.current(#projectId), #projectId, #title, #q, #status, #priority, #assigneeId, #startCreated, #endCreated, #pageable.pageNumber, #pageable.pageSize, #pageable.sort.toString())")
+    public Slice<TaskResponseDTO> listTasksSlice(Long projectId, String title, String q, TaskStatus status, TaskPriority priority,
+                                                 Long assigneeId, LocalDateTime startCreated, LocalDateTime endCreated,
+                                                 Pageable pageable) {
+
+        Specification<Task> spec = listSpecification(projectId, title, q, status, priority, assigneeId, startCreated, endCreated, pageable.getSort());
+
+        Slice<Task> tasks = sliceExecutor.findSlice(Task.class, spec, withoutRelevance(pageable), "assignee");
+        return tasks.map(taskMapper::toDTO);
+    }
+
+    public CursorPageResponseDTO<TaskResponseDTO> listTasksByCursor(Long projectId, String title, String q, TaskStatus status, TaskPriority priority,
+                                                                    Long assigneeId, LocalDateTime startCreated, LocalDateTime endCreated,
+                                                                    String sortBy, Sort.Direction direction, String cursor, int size) {
+        TaskCursor.checkPageSize(size);
+        // Mesmos filtros, busca e validação de relevância da listagem por página; o cursor só acrescenta a posição.
+        Specification<Task> spec = listSpecification(projectId, title, q, status, priority, assigneeId, startCreated, endCreated,
+                Sort.by(direction, sortBy));
+        TaskCursor.checkSortable(sortBy);
+        TaskCursor after = (cursor == null || cursor.isBlank()) ? null : TaskCursor.decode(cursor, sortBy, direction);
+        spec = spec.and(TaskSpecification.seekAfter(sortBy, direction, after));
+
+        List<Task> rows = taskRepository.findBy(spec, query -> query.project("assignee").limit(size + 1).all());
+        return TaskCursor.toPage(rows, size, sortBy, direction, taskMapper::toDTO);
+    }
+
+    static Specification<Task> listSpecification(Long projectId, String title, String q, TaskStatus status, TaskPriority priority,
+                                                 Long assigneeId, LocalDateTime startCreated, LocalDateTime endCreated, Sort sort) {
+        Specification<Task> spec = TaskSpecification.withFilters(projectId, title, status, priority, assigneeId, startCreated, endCreated);
+        boolean hasSearch = q != null && !q.isBlank();
+        if (hasSearch) {
+            spec = spec.and(TaskSpecification.matchesText(q));
         }
-        if (startCreated != null && endCreated != null) {
-            spec = (spec == null) ? TaskSpecification.createdBetween(startCreated, endCreated) : spec.and(TaskSpecification.createdBetween(startCreated, endCreated));
+
+        if (sort.getOrderFor(SORT_BY_RELEVANCE) != null) {
+            if (!hasSearch) {
+                throw new BadRequestException("Ordenação por relevância exige o parâmetro q");
+            }
+            spec = spec.and(TaskSpecification.orderByRelevance(q));
         }
+        return spec;
+    }
 
-        Page<Task> tasks = taskRepository.findAll(spec, pageable);
-        return tasks.map(taskMapper::toDTO);
+    /**
+     * A relevância é ordenada pela própria Specification; o Sort do Pageable não pode referenciá-la.
+     */
+    private static Pageable withoutRelevance(Pageable pageable) {
+        if (pageable.getSort().getOrderFor(SORT_BY_RELEVANCE) == null) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
     }
 
     @Cacheable(value = "tasksById", key = "#taskId")
@@ -73,7 +143,6 @@ public class TaskService {
         return taskMapper.toDTO(task);
     }
 
-    @CacheEvict(value = {"tasksSearch", "tasksById"}, allEntries = true)
     public TaskResponseDTO createTask(Long projectId, TaskRequestDTO dto) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com id " + projectId));
@@ -86,11 +155,154 @@ public class TaskService {
         Task task = taskMapper.toEntity(dto, assignee);
         task.setProject(project);
         Task saved = taskRepository.save(task);
+        TaskRef created = TaskRef.of(saved);
+        counterService.taskCreated(created);
+        liveUpdates.tasksChanged(List.of(), List.of(created));
+        cacheGenerations.invalidate(projectId);
 
         return taskMapper.toDTO(saved);
     }
 
-    @CacheEvict(value = {"tasksSearch", "tasksById"}, allEntries = true)
+    public TaskBulkCreateResponseDTO createTasksInBulk(Long projectId, List<TaskRequestDTO> items) {
+        if (items.size() > bulkMaxItems) {
+            throw new BadRequestException("O lote excede o limite de " + bulkMaxItems + " tarefas");
+        }
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com id " + projectId));
+
+        Set<Long> assigneeIds = items.stream()
+                .filter(Objects::nonNull)
+                .map(TaskRequestDTO::getAssigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, User> assignees = userRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<BulkItemResultDTO> results = new ArrayList<>(items.size());
+        List<Task> accepted = new ArrayList<>();
+        List<BulkItemResultDTO> acceptedResults = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            TaskRequestDTO dto = items.get(i);
+            String error = validateBulkItem(dto, assignees);
+            BulkItemResultDTO result = new BulkItemResultDTO(i, null, error);
+            results.add(result);
+            if (error == null) {
+                Task task = taskMapper.toEntity(dto, dto.getAssigneeId() != null ? assignees.get(dto.getAssigneeId()) : null);
+                task.setProject(project);
+                accepted.add(task);
+                acceptedResults.add(result);
+            }
+        }
+
+        List<Long> ids = accepted.isEmpty() ? List.of() : taskRepository.insertAll(accepted);
+        List<TaskRef> created = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            acceptedResults.get(i).setId(ids.get(i));
+            Task task = accepted.get(i);
+            created.add(new TaskRef(ids.get(i), projectId,
+                    task.getAssignee() != null ? task.getAssignee().getId() : null,
+                    task.getStatus() != null ? task.getStatus() : TaskStatus.PENDING));
+        }
+        if (!ids.isEmpty()) {
+            counterService.tasksChanged(List.of(), created);
+            liveUpdates.tasksChanged(List.of(), created);
+            cacheGenerations.invalidate(projectId);
+        }
+        log.info("Criação em massa no projeto {}: {} criadas, {} rejeitadas", projectId, ids.size(), items.size() - ids.size());
+
+        return TaskBulkCreateResponseDTO.builder()
+                .requested(items.size())
+                .created(ids.size())
+                .failed(items.size() - ids.size())
+                .items(results)
+                .build();
+    }
+
+    public BulkUpdateResultDTO updateStatusInBulk(TaskBulkStatusRequestDTO dto) {
+        checkBulkTarget(dto.getTaskIds(), dto.getFilter());
+        List<TaskRef> targets = taskRepository.updateStatus(dto.getTaskIds(), dto.getFilter(), dto.getStatus());
+        if (targets.isEmpty()) {
+            return new BulkUpdateResultDTO(0);
+        }
+        List<TaskRef> updated = targets.stream().map(target -> target.withStatus(dto.getStatus())).toList();
+        counterService.tasksChanged(targets, updated);
+        liveUpdates.tasksChanged(targets, updated);
+        evictBulkTargets(targets);
+        log.info("Status {} aplicado em massa a {} tarefas", dto.getStatus(), targets.size());
+        return new BulkUpdateResultDTO(targets.size());
+    }
+
+    public BulkUpdateResultDTO assignUserInBulk(TaskBulkAssignRequestDTO dto) {
+        User user = userRepository.findById(dto.getUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com id " + dto.getUserId()));
+        checkBulkTarget(dto.getTaskIds(), dto.getFilter());
+        List<TaskRef> targets = taskRepository.updateAssignee(dto.getTaskIds(), dto.getFilter(), user.getId());
+        if (targets.isEmpty()) {
+            return new BulkUpdateResultDTO(0);
+        }
+        List<TaskRef> updated = targets.stream().map(target -> target.withAssigneeId(user.getId())).toList();
+        counterService.tasksChanged(targets, updated);
+        liveUpdates.tasksChanged(targets, updated);
+        evictBulkTargets(targets);
+        log.info("Usuário {} atribuído em massa a {} tarefas", user.getId(), targets.size());
+        return new BulkUpdateResultDTO(targets.size());
+    }
+
+    /**
+     * Exige ids ou filtro, nunca os dois. Só a lista de ids tem limite: o filtro vai inteiro para o WHERE do UPDATE.
+     */
+    private void checkBulkTarget(List<Long> taskIds, TaskFilterDTO filter) {
+        boolean hasIds = taskIds != null && !taskIds.isEmpty();
+        if (hasIds == (filter != null)) {
+            throw new BadRequestException("Informe taskIds ou filter, mas não ambos");
+        }
+        if (hasIds && taskIds.size() > bulkMaxItems) {
+            throw new BadRequestException("O lote excede o limite de " + bulkMaxItems + " tarefas");
+        }
+    }
+
+    private List<Long> idsOf(List<TaskRef> targets) {
+        return targets.stream().map(TaskRef::getId).toList();
+    }
+
+    private void evictBulkTargets(List<TaskRef> targets) {
+        evictTasks(idsOf(targets));
+        targets.stream()
+                .map(TaskRef::getProjectId)
+                .distinct()
+                .forEach(cacheGenerations::invalidate);
+    }
+
+    /**
+     * Remove as tarefas do cache "tasksById" só após o commit, como a invalidação de "tasksSearch": antes disso
+     * uma leitura concorrente ainda veria a linha antiga e a gravaria de volta no cache.
+     */
+    private void evictTasks(List<Long> taskIds) {
+        Cache tasksById = cacheManager.getCache("tasksById");
+        if (tasksById != null) {
+            Cache afterCommit = new TransactionAwareCacheDecorator(tasksById);
+            taskIds.forEach(afterCommit::evict);
+        }
+    }
+
+    private String validateBulkItem(TaskRequestDTO dto, Map<Long, User> assignees) {
+        if (dto == null) {
+            return "Item vazio";
+        }
+        Set<ConstraintViolation<TaskRequestDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (dto.getAssigneeId() != null && !assignees.containsKey(dto.getAssigneeId())) {
+            return "Usuário (assignee) não encontrado com id " + dto.getAssigneeId();
+        }
+        return null;
+    }
+
     public TaskResponseDTO updateTask(Long taskId, TaskRequestDTO dto) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com id " + taskId));
@@ -101,35 +313,56 @@ public class TaskService {
                     .orElseThrow(() -> new ResourceNotFoundException("Usuário (assignee) não encontrado com id " + dto.getAssigneeId()));
         }
 
+        TaskRef before = TaskRef.of(task);
         taskMapper.updateEntity(task, dto, assignee);
         Task updated = taskRepository.save(task);
+        TaskRef after = TaskRef.of(updated);
+        counterService.taskUpdated(before, after);
+        liveUpdates.tasksChanged(List.of(before), List.of(after));
+        evictTasks(List.of(taskId));
+        cacheGenerations.invalidate(task.getProject().getId());
         return taskMapper.toDTO(updated);
     }
 
-    @CacheEvict(value = {"tasksSearch", "tasksById"}, allEntries = true)
     public void deleteTask(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com id " + taskId));
+        attachmentService.deleteTaskAttachments(taskId);
         taskRepository.delete(task);
+        TaskRef deleted = TaskRef.of(task);
+        counterService.taskDeleted(deleted);
+        liveUpdates.tasksChanged(List.of(deleted), List.of());
+        evictTasks(List.of(taskId));
+        cacheGenerations.invalidate(task.getProject().getId());
     }
 
-    @CacheEvict(value = {"tasksSearch", "tasksById"}, allEntries = true)
     public TaskResponseDTO updateStatus(Long taskId, TaskStatus status) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com id " + taskId));
+        TaskRef before = TaskRef.of(task);
         task.setStatus(status);
         Task updated = taskRepository.save(task);
+        TaskRef after = TaskRef.of(updated);
+        counterService.taskUpdated(before, after);
+        liveUpdates.tasksChanged(List.of(before), List.of(after));
+        evictTasks(List.of(taskId));
+        cacheGenerations.invalidate(task.getProject().getId());
         return taskMapper.toDTO(updated);
     }
 
-    @CacheEvict(value = {"tasksSearch", "tasksById"}, allEntries = true)
     public TaskResponseDTO assignUser(Long taskId, Long userId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com id " + taskId));
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com id " + userId));
+        TaskRef before = TaskRef.of(task);
         task.setAssignee(user);
         Task updated = taskRepository.save(task);
+        TaskRef after = TaskRef.of(updated);
+        counterService.taskUpdated(before, after);
+        liveUpdates.tasksChanged(List.of(before), List.of(after));
+        evictTasks(List.of(taskId));
+        cacheGenerations.invalidate(task.getProject().getId());
         return taskMapper.toDTO(updated);
     }
 }
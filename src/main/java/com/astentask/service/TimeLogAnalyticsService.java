@@ -0,0 +1,102 @@
+package com.astentask.service;
+
+import com.astentask.dtos.TimeLogBucketDTO;
+import com.astentask.dtos.TimeLogSeriesDTO;
+import com.astentask.exception.BadRequestException;
+import com.astentask.model.TimeBucketGranularity;
+import com.astentask.model.TimeLogDimension;
+import com.astentask.repositories.TimeLogBucketKey;
+import com.astentask.repositories.TimeLogBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Mantém os baldes diários de minutos registrados e responde às consultas de série temporal.
+ * Assim como os contadores do dashboard, a escrita acontece na transação do registro de tempo.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeLogAnalyticsService {
+
+    private final TimeLogBucketRepository bucketRepository;
+
+    @Value("${astentask.analytics.time-logs.max-range-days:1830}")
+    private long maxRangeDays;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void logged(TimeLogBucketKey bucket, long minutes) {
+        changed(bucket, 0L, bucket, minutes);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removed(TimeLogBucketKey bucket, long minutes) {
+        changed(bucket, minutes, bucket, 0L);
+    }
+
+    /**
+     * Move os minutos de um registro alterado; o balde muda quando a data de início muda de dia.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void changed(TimeLogBucketKey before, long minutesBefore, TimeLogBucketKey after, long minutesAfter) {
+        SortedMap<TimeLogBucketKey, Long> deltas = new TreeMap<>();
+        deltas.merge(before, -minutesBefore, Long::sum);
+        deltas.merge(after, minutesAfter, Long::sum);
+        bucketRepository.addAll(deltas);
+    }
+
+    /**
+     * Na granularidade semanal o intervalo é estendido para semanas completas (segunda a domingo).
+     */
+    @Transactional(readOnly = true)
+    public TimeLogSeriesDTO series(String groupByParam, String granularityParam,
+                                   LocalDate from, LocalDate to,
+                                   Long userId, Long projectId, Long taskId) {
+        TimeLogDimension groupBy;
+        TimeBucketGranularity granularity;
+        try {
+            groupBy = TimeLogDimension.valueOf(groupByParam.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Agrupamento inválido: " + groupByParam);
+        }
+        try {
+            granularity = TimeBucketGranularity.valueOf(granularityParam.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Granularidade inválida: " + granularityParam);
+        }
+        if (from.isAfter(to)) {
+            throw new BadRequestException("Data inicial deve ser anterior ou igual à data final");
+        }
+        if (granularity == TimeBucketGranularity.WEEK) {
+            from = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            to = to.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxRangeDays) {
+            throw new BadRequestException("Intervalo máximo é de " + maxRangeDays + " dias");
+        }
+
+        List<TimeLogBucketDTO> buckets = bucketRepository.findSeries(groupBy, granularity, from, to, userId, projectId, taskId);
+        log.info("Série de tempo registrado: groupBy={}, granularity={}, {} a {}, {} baldes", groupBy, granularity, from, to, buckets.size());
+
+        return TimeLogSeriesDTO.builder()
+                .groupBy(groupBy)
+                .granularity(granularity)
+                .from(from)
+                .to(to)
+                .totalMinutes(buckets.stream().mapToLong(TimeLogBucketDTO::getMinutes).sum())
+                .buckets(buckets)
+                .build();
+    }
+}
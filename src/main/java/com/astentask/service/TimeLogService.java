@@ -3,10 +3,13 @@ package com.astentask.service;
 import com.astentask.dtos.TimeLogCreateDTO;
 import com.astentask.dtos.TimeLogDTO;
 import com.astentask.exception.ResourceNotFoundException;
+import com.astentask.live.LiveUpdatePublisher;
 import com.astentask.model.Task;
 import com.astentask.model.TimeLog;
 import com.astentask.model.User;
+import com.astentask.repositories.SpecificationSliceExecutor;
 import com.astentask.repositories.TaskRepository;
+import com.astentask.repositories.TimeLogBucketKey;
 import com.astentask.repositories.TimeLogRepository;
 import com.astentask.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +19,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.validation.Valid;
 
@@ -25,12 +29,18 @@ import java.util.Optional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Transactional
 public class TimeLogService {
 
     private final TimeLogRepository timeLogRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final SpecificationSliceExecutor sliceExecutor;
+    private final DashboardCounterService counterService;
+    private final TimeLogAnalyticsService analyticsService;
+    private final LiveUpdatePublisher liveUpdates;
 
+    @Transactional(readOnly = true)
     public Page<TimeLogDTO> listTimeLogs(Long taskId, int page, int size, String sortBy, String direction,
                                          Optional<Long> userIdFilter,
                                          Optional<LocalDateTime> startDateFilter,
@@ -38,6 +48,29 @@ public class TimeLogService {
         Pageable pageable = PageRequest.of(page, size,
                 "desc".equalsIgnoreCase(direction) ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending());
 
+        Specification<TimeLog> spec = timeLogSpecification(taskId, userIdFilter, startDateFilter, endDateFilter);
+
+        Page<TimeLog> pageResult = timeLogRepository.findAll(spec, pageable);
+
+        return pageResult.map(TimeLogService::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<TimeLogDTO> listTimeLogsSlice(Long taskId, int page, int size, String sortBy, String direction,
+                                               Optional<Long> userIdFilter,
+                                               Optional<LocalDateTime> startDateFilter,
+                                               Optional<LocalDateTime> endDateFilter) {
+        Pageable pageable = PageRequest.of(page, size,
+                "desc".equalsIgnoreCase(direction) ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending());
+
+        Specification<TimeLog> spec = timeLogSpecification(taskId, userIdFilter, startDateFilter, endDateFilter);
+
+        return sliceExecutor.findSlice(TimeLog.class, spec, pageable).map(TimeLogService::toDTO);
+    }
+
+    private Specification<TimeLog> timeLogSpecification(Long taskId, Optional<Long> userIdFilter,
+                                                        Optional<LocalDateTime> startDateFilter,
+                                                        Optional<LocalDateTime> endDateFilter) {
         Specification<TimeLog> spec = (root, query, cb) -> cb.equal(root.get("task").get("id"), taskId);
 
         if (userIdFilter.isPresent()) {
@@ -54,11 +87,7 @@ public class TimeLogService {
             spec = spec.and((root, query, cb) ->
                     cb.lessThanOrEqualTo(root.get("startTime"), endDateFilter.get()));
         }
-
-
-        Page<TimeLog> pageResult = timeLogRepository.findAll(spec, pageable);
-
-        return pageResult.map(this::toDTO);
+        return spec;
     }
 
     public TimeLogDTO addTimeLog(Long taskId, @Valid TimeLogCreateDTO dto) {
@@ -76,6 +105,9 @@ public class TimeLogService {
                 .build();
 
         TimeLog saved = timeLogRepository.save(timeLog);
+        counterService.minutesLogged(user.getId(), task.getProject().getId(), minutesOf(saved));
+        analyticsService.logged(TimeLogBucketKey.of(saved), minutesOf(saved));
+        liveUpdates.timeLogged(task.getProject().getId(), taskId, user.getId());
         log.info("TimeLog criado: id={} para taskId={}", saved.getId(), taskId);
         return toDTO(saved);
     }
@@ -84,11 +116,17 @@ public class TimeLogService {
         TimeLog timeLog = timeLogRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Registro de tempo não encontrado"));
 
+        long previousMinutes = minutesOf(timeLog);
+        TimeLogBucketKey previousBucket = TimeLogBucketKey.of(timeLog);
         timeLog.setStartTime(dto.getStartTime());
         timeLog.setEndTime(dto.getEndTime());
         timeLog.setDurationInMinutes(dto.getDurationInMinutes());
 
         TimeLog updated = timeLogRepository.save(timeLog);
+        counterService.minutesLogged(updated.getUser().getId(), updated.getTask().getProject().getId(),
+                minutesOf(updated) - previousMinutes);
+        analyticsService.changed(previousBucket, previousMinutes, TimeLogBucketKey.of(updated), minutesOf(updated));
+        liveUpdates.timeLogged(updated.getTask().getProject().getId(), updated.getTask().getId(), updated.getUser().getId());
         log.info("TimeLog atualizado: id={}", updated.getId());
         return toDTO(updated);
     }
@@ -97,6 +135,9 @@ public class TimeLogService {
         TimeLog timeLog = timeLogRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Registro de tempo não encontrado"));
         timeLogRepository.delete(timeLog);
+        counterService.minutesLogged(timeLog.getUser().getId(), timeLog.getTask().getProject().getId(), -minutesOf(timeLog));
+        analyticsService.removed(TimeLogBucketKey.of(timeLog), minutesOf(timeLog));
+        liveUpdates.timeLogged(timeLog.getTask().getProject().getId(), timeLog.getTask().getId(), timeLog.getUser().getId());
         log.info("TimeLog deletado: id={}", id);
     }
 
@@ -107,7 +148,11 @@ public class TimeLogService {
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário logado não encontrado"));
     }
 
-    private TimeLogDTO toDTO(TimeLog timeLog) {
+    private static long minutesOf(TimeLog timeLog) {
+        return timeLog.getDurationInMinutes() != null ? timeLog.getDurationInMinutes() : 0L;
+    }
+
+    static TimeLogDTO toDTO(TimeLog timeLog) {
         return TimeLogDTO.builder()
                 .id(timeLog.getId())
                 .taskId(timeLog.getTask().getId())
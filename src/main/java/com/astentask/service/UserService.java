@@ -6,12 +6,14 @@ import com.astentask.exception.ResourceNotFoundException;
 import com.astentask.mapper.UserMapper;
 import com.astentask.model.Role;
 import com.astentask.model.User;
+import com.astentask.repositories.SpecificationSliceExecutor;
 import com.astentask.repositories.UserRepository;
 import com.astentask.specification.UserSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +28,7 @@ import java.time.LocalDateTime;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final SpecificationSliceExecutor sliceExecutor;
 
     @Transactional(readOnly = true)
     @Cacheable(value = "usersById", key = "#id")
@@ -37,7 +40,7 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "usersSearch", key = "T(java.util.Objects).hash(#name, #email, #role, #startDate, #endDate, #pageable.pageNumber, #pageable.pageSize, #pageable.sort.toString())")
+    @Cacheable(value = "usersSearch", key = "new org.springframework.cache.interceptor.SimpleKey(#name, #email, #role, #startDate, #endDate, #pageable.pageNumber, #pageable.pageSize, #pageable.sort.toString())")
     public Page<UserResponseDTO> searchUsers(String name, String email, Role role,
                                              LocalDateTime startDate, LocalDateTime endDate,
                                              Pageable pageable) {
@@ -45,15 +48,31 @@ public class UserService {
         log.info("Listando usuários com filtros name={}, email={}, role={}, startDate={}, endDate={}",
                 name, email, role, startDate, endDate);
 
-        Specification<User> spec = Specification.allOf(
+        return userRepository.findAll(searchSpecification(name, email, role, startDate, endDate), pageable)
+                .map(UserMapper::toDto);
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = "usersSearch", key = "new org.springframework.cache.interceptor.SimpleKey('slice', #name, #email, #role, #startDate, #endDate, #pageable.pageNumber, #pageable.pageSize, #pageable.sort.toString())")
+    public Slice<UserResponseDTO> searchUsersSlice(String name, String email, Role role,
+                                                   LocalDateTime startDate, LocalDateTime endDate,
+                                                   Pageable pageable) {
+
+        log.info("Listando usuários sem total com filtros name={}, email={}, role={}, startDate={}, endDate={}",
+                name, email, role, startDate, endDate);
+
+        return sliceExecutor.findSlice(User.class, searchSpecification(name, email, role, startDate, endDate), pageable)
+                .map(UserMapper::toDto);
+    }
+
+    private Specification<User> searchSpecification(String name, String email, Role role,
+                                                    LocalDateTime startDate, LocalDateTime endDate) {
+        return Specification.allOf(
                 UserSpecification.hasName(name),
                 UserSpecification.hasEmail(email),
                 UserSpecification.hasRole(role),
                 UserSpecification.createdBetween(startDate, endDate)
         );
-
-        return userRepository.findAll(spec, pageable)
-                .map(UserMapper::toDto);
     }
 
     @Transactional
@@ -0,0 +1,113 @@
+package com.astentask.specification;
+
+import com.astentask.dtos.pages.CursorPageResponseDTO;
+import com.astentask.exception.BadRequestException;
+import com.astentask.model.Task;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Posição opaca da paginação por cursor (keyset) de tarefas: o valor do campo de ordenação
+ * e o id da última linha entregue, codificados em Base64 URL-safe.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaskCursor {
+
+    private static final Set<String> SORTABLE_FIELDS = Set.of("createdAt", "updatedAt", "dueDate", "title", "id");
+    private static final Set<String> NULLABLE_FIELDS = Set.of("dueDate");
+    private static final String NULL_MARKER = "~";
+    private static final String VALUE_MARKER = "=";
+
+    /** Maior página aceita na paginação por cursor. */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final Comparable<?> value;
+    private final Long id;
+
+    public static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+    }
+
+    public static void checkSortable(String sortBy) {
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            throw new BadRequestException("Campo de ordenação não suportado na paginação por cursor: " + sortBy
+                    + ". Use um de " + SORTABLE_FIELDS);
+        }
+    }
+
+    static boolean isNullable(String sortBy) {
+        return NULLABLE_FIELDS.contains(sortBy);
+    }
+
+    public static TaskCursor of(Task task, String sortBy, Sort.Direction direction) {
+        Comparable<?> value = switch (sortBy) {
+            case "createdAt" -> task.getCreatedAt();
+            case "updatedAt" -> task.getUpdatedAt();
+            case "dueDate" -> task.getDueDate();
+            case "title" -> task.getTitle();
+            case "id" -> task.getId();
+            default -> throw new IllegalArgumentException("Campo de ordenação não suportado: " + sortBy);
+        };
+        return new TaskCursor(sortBy, direction, value, task.getId());
+    }
+
+    public static TaskCursor decode(String token, String sortBy, Sort.Direction direction) {
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = raw.split("\\|", 4);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor inválido");
+        }
+        if (parts.length != 4 || !parts[0].equals(sortBy) || !parts[1].equals(direction.name())) {
+            throw new BadRequestException("Cursor inválido para a ordenação solicitada");
+        }
+        try {
+            Long id = Long.valueOf(parts[2]);
+            Comparable<?> value = parts[3].equals(NULL_MARKER) ? null : parseValue(sortBy, parts[3].substring(VALUE_MARKER.length()));
+            return new TaskCursor(sortBy, direction, value, id);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+
+    public String encode() {
+        String encodedValue = value == null ? NULL_MARKER : VALUE_MARKER + value;
+        String raw = sortBy + "|" + direction.name() + "|" + id + "|" + encodedValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Monta a página a partir de uma consulta que buscou {@code size + 1} linhas: a linha extra
+     * só indica que existe próxima página e não é devolvida.
+     */
+    public static <T> CursorPageResponseDTO<T> toPage(List<Task> rows, int size, String sortBy, Sort.Direction direction,
+                                                      Function<Task, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<Task> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? of(content.get(content.size() - 1), sortBy, direction).encode() : null;
+        return new CursorPageResponseDTO<>(content.stream().map(mapper).toList(), content.size(), nextCursor, hasNext);
+    }
+
+    private static Comparable<?> parseValue(String sortBy, String raw) {
+        return switch (sortBy) {
+            case "createdAt", "updatedAt", "dueDate" -> LocalDateTime.parse(raw);
+            case "id" -> Long.valueOf(raw);
+            default -> raw;
+        };
+    }
+}
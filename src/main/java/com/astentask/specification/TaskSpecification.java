@@ -1,15 +1,29 @@
 package com.astentask.specification;
 
+import com.astentask.config.TaskSearchFunctions;
+import com.astentask.exception.BadRequestException;
 import com.astentask.model.Task;
 import com.astentask.model.TaskPriority;
 import com.astentask.model.TaskStatus;
-import com.astentask.model.User;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
 
 public class TaskSpecification {
 
+    private static final int MAX_SEARCH_TERMS = 8;
+
     public static Specification<Task> belongsToProject(Long projectId) {
         return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
     }
@@ -33,4 +47,118 @@ public class TaskSpecification {
     public static Specification<Task> createdBetween(LocalDateTime start, LocalDateTime end) {
         return (root, query, cb) -> cb.between(root.get("createdAt"), start, end);
     }
+
+    public static Specification<Task> dueDateFrom(LocalDateTime start) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), start);
+    }
+
+    public static Specification<Task> dueDateUntil(LocalDateTime end) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), end);
+    }
+
+    /**
+     * Busca textual em título e descrição pelo índice GIN. Cada palavra do termo vira um prefixo
+     * obrigatório, então "rel fin" encontra "Relatório financeiro".
+     */
+    public static Specification<Task> matchesText(String text) {
+        String tsQuery = toPrefixQuery(text);
+        return (root, query, cb) -> cb.isTrue(cb.function(TaskSearchFunctions.MATCHES, Boolean.class,
+                root.get("title"), root.get("description"), cb.literal(tsQuery)));
+    }
+
+    /**
+     * Ordena pela relevância da busca textual (ts_rank), com o id como desempate.
+     */
+    public static Specification<Task> orderByRelevance(String text) {
+        String tsQuery = toPrefixQuery(text);
+        return (root, query, cb) -> {
+            if (query != null && !Long.class.equals(query.getResultType())) {
+                query.orderBy(
+                        cb.desc(cb.function(TaskSearchFunctions.RANK, Double.class,
+                                root.get("title"), root.get("description"), cb.literal(tsQuery))),
+                        cb.desc(root.get("id")));
+            }
+            return null;
+        };
+    }
+
+    public static Specification<Task> withFilters(Long projectId, String title, TaskStatus status, TaskPriority priority,
+                                                  Long assigneeId, LocalDateTime startCreated, LocalDateTime endCreated) {
+        Specification<Task> spec = (root, query, cb) -> cb.conjunction();
+
+        if (projectId != null) {
+            spec = spec.and(belongsToProject(projectId));
+        }
+        if (title != null && !title.isBlank()) {
+            spec = spec.and(hasTitle(title));
+        }
+        if (status != null) {
+            spec = spec.and(hasStatus(status));
+        }
+        if (priority != null) {
+            spec = spec.and(hasPriority(priority));
+        }
+        if (assigneeId != null) {
+            spec = spec.and(hasAssigneeId(assigneeId));
+        }
+        if (startCreated != null && endCreated != null) {
+            spec = spec.and(createdBetween(startCreated, endCreated));
+        }
+        return spec;
+    }
+
+    /**
+     * Ordena por (sortBy, id) e, quando há cursor, mantém apenas as linhas posteriores a ele.
+     * Valores nulos de campos opcionais ficam sempre no final, em qualquer direção.
+     */
+    public static Specification<Task> seekAfter(String sortBy, Sort.Direction direction, TaskCursor cursor) {
+        return (root, query, cb) -> {
+            Path<Object> sortPath = root.get(sortBy);
+            Path<Long> idPath = root.get("id");
+            boolean ascending = direction.isAscending();
+            boolean nullable = TaskCursor.isNullable(sortBy);
+
+            if (query != null && !Long.class.equals(query.getResultType())) {
+                List<Order> orders = new ArrayList<>();
+                if (nullable) {
+                    orders.add(cb.asc(cb.<Integer>selectCase().when(cb.isNull(sortPath), 1).otherwise(0)));
+                }
+                orders.add(ascending ? cb.asc(sortPath) : cb.desc(sortPath));
+                orders.add(ascending ? cb.asc(idPath) : cb.desc(idPath));
+                query.orderBy(orders);
+            }
+
+            if (cursor == null) {
+                return null;
+            }
+
+            Predicate afterId = beyond(cb, idPath, cursor.getId(), ascending);
+            if (cursor.getValue() == null) {
+                return cb.and(cb.isNull(sortPath), afterId);
+            }
+
+            Predicate after = cb.or(
+                    beyond(cb, sortPath, cursor.getValue(), ascending),
+                    cb.and(cb.equal(sortPath, cursor.getValue()), afterId)
+            );
+            return nullable ? cb.or(after, cb.isNull(sortPath)) : after;
+        };
+    }
+
+    private static String toPrefixQuery(String text) {
+        String tsQuery = Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_SEARCH_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        if (tsQuery.isEmpty()) {
+            throw new BadRequestException("Termo de busca inválido: " + text);
+        }
+        return tsQuery;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Predicate beyond(CriteriaBuilder cb, Expression path, Comparable value, boolean ascending) {
+        return ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    }
 }
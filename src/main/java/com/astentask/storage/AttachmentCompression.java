@@ -0,0 +1,118 @@
+package com.astentask.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compressão do conteúdo dos anexos no storage. O formato é o {@code deflate} do HTTP (zlib) no nível mais
+ * rápido, para que o arquivo gravado possa ir direto para o cliente com {@code Content-Encoding: deflate}.
+ * Tipos que já chegam comprimidos (imagens, zip, pdf...) são gravados como vieram.
+ */
+@Component
+public class AttachmentCompression {
+
+    public static final String DEFLATE = "deflate";
+
+    private final boolean enabled;
+    private final List<MediaType> skipTypes;
+
+    public AttachmentCompression(
+            @Value("${astentask.storage.compression.enabled:true}") boolean enabled,
+            @Value("${astentask.storage.compression.skip-types:image/*,video/*,audio/*,application/zip,application/gzip}")
+            String[] skipTypes) {
+        this.enabled = enabled;
+        this.skipTypes = Arrays.stream(skipTypes).map(String::trim).map(MediaType::parseMediaType).toList();
+    }
+
+    /**
+     * Encoding a usar para um arquivo do tipo informado, ou null para gravar sem compressão.
+     */
+    public String encodingFor(String contentType) {
+        if (!enabled) {
+            return null;
+        }
+        if (contentType == null) {
+            return DEFLATE;
+        }
+        try {
+            MediaType type = MediaType.parseMediaType(contentType);
+            return skipTypes.stream().anyMatch(skip -> skip.includes(type)) ? null : DEFLATE;
+        } catch (InvalidMediaTypeException e) {
+            return DEFLATE;
+        }
+    }
+
+    /**
+     * Comprime o stream enquanto é lido; sem encoding devolve o próprio stream.
+     */
+    public InputStream encode(InputStream raw, String encoding) {
+        if (encoding == null) {
+            return raw;
+        }
+        requireDeflate(encoding);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        return new DeflaterInputStream(raw, deflater) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    deflater.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * Descomprime o conteúdo gravado enquanto é lido; sem encoding devolve o próprio stream.
+     */
+    public InputStream decode(InputStream stored, String encoding) {
+        if (encoding == null) {
+            return stored;
+        }
+        requireDeflate(encoding);
+        return new InflaterInputStream(stored);
+    }
+
+    /**
+     * Indica se o cabeçalho Accept-Encoding do cliente aceita o encoding (sem q=0). O encoding citado pelo nome
+     * vale mais que o {@code *}.
+     */
+    public static boolean accepts(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            boolean rejected = Arrays.stream(tokens).skip(1)
+                    .map(String::trim)
+                    .anyMatch(param -> param.matches("q\\s*=\\s*0(\\.0*)?"));
+            if (coding.equals(encoding)) {
+                return !rejected;
+            }
+            if (coding.equals("*")) {
+                wildcard = !rejected;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static void requireDeflate(String encoding) {
+        if (!DEFLATE.equals(encoding)) {
+            throw new IllegalStateException("Encoding de anexo não suportado: " + encoding);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.astentask.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+/**
+ * SPI de armazenamento do conteúdo dos anexos. O banco guarda só os metadados e a chave devolvida por
+ * {@link #store}; a implementação decide onde e como os bytes ficam.
+ */
+public interface AttachmentStorage {
+
+    /**
+     * Copia o stream para o storage em blocos de tamanho fixo, sem carregá-lo inteiro em memória.
+     * O stream não é fechado.
+     */
+    StoredObject store(InputStream content) throws IOException;
+
+    InputStream open(String key) throws IOException;
+
+    /**
+     * Conteúdo como {@link Resource} com tamanho conhecido, para que o download possa ser servido em
+     * partes (Range) sem passar pelo heap.
+     */
+    Resource resource(String key);
+
+    boolean exists(String key);
+
+    /**
+     * Remove o conteúdo; chaves inexistentes são ignoradas.
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * Chaves de todo o conteúdo gravado antes de {@code modifiedBefore}, sem as partes de uploads em andamento.
+     * Usado pela coleta de arquivos sem referência; o stream precisa ser fechado.
+     */
+    Stream<String> keys(Instant modifiedBefore) throws IOException;
+
+    /**
+     * Cria o arquivo vazio das partes de um upload recém-iniciado.
+     */
+    void createParts(String uploadId) throws IOException;
+
+    /**
+     * Grava uma parte de um upload em andamento a partir de {@code offset}, sem carregá-la em memória. Partes
+     * podem chegar fora de ordem e em paralelo. Devolve o número de bytes gravados; um stream com mais de
+     * {@code maxLength} bytes é recusado com {@link IllegalArgumentException}. O arquivo das partes precisa
+     * existir ({@link #createParts}): um upload já concluído, cancelado ou expirado nunca é recriado, e a
+     * gravação falha com {@link java.nio.file.NoSuchFileException}.
+     */
+    long writePart(String uploadId, long offset, InputStream content, long maxLength) throws IOException;
+
+    /**
+     * Lê o arquivo montado pelas partes de um upload.
+     */
+    InputStream openParts(String uploadId) throws IOException;
+
+    /**
+     * Descarta as partes de um upload; uploads inexistentes são ignorados.
+     */
+    void deleteParts(String uploadId) throws IOException;
+}
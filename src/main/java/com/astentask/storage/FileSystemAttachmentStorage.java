@@ -0,0 +1,170 @@
+package com.astentask.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Storage em disco local. Cada conteúdo vira um arquivo em {@code <root>/<aa>/<bb>/<uuid>}; a gravação vai
+ * primeiro para {@code <root>/tmp} e só então é movida para o destino, para que um upload interrompido
+ * nunca deixe um arquivo pela metade sob uma chave válida. As partes de uploads em andamento ficam em
+ * {@code <root>/parts/<uploadId>}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "astentask.storage.type", havingValue = "filesystem", matchIfMissing = true)
+public class FileSystemAttachmentStorage implements AttachmentStorage {
+
+    private final Path root;
+    private final Path tmp;
+    private final Path parts;
+    private final int bufferSize;
+
+    public FileSystemAttachmentStorage(
+            @Value("${astentask.storage.filesystem.root:uploads}") String root,
+            @Value("${astentask.storage.buffer-size:65536}") int bufferSize) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.tmp = this.root.resolve("tmp");
+        this.parts = this.root.resolve("parts");
+        this.bufferSize = bufferSize;
+        Files.createDirectories(tmp);
+        Files.createDirectories(parts);
+    }
+
+    @Override
+    public StoredObject store(InputStream content) throws IOException {
+        String id = UUID.randomUUID().toString();
+        String key = id.substring(0, 2) + "/" + id.substring(2, 4) + "/" + id;
+        Path temp = tmp.resolve(id);
+
+        long size = 0;
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            byte[] buffer = new byte[bufferSize];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                size += read;
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        return new StoredObject(key, size);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public Resource resource(String key) {
+        return new FileSystemResource(resolve(key));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Stream<String> keys(Instant modifiedBefore) throws IOException {
+        return Files.walk(root)
+                .filter(path -> !path.startsWith(tmp) && !path.startsWith(parts))
+                .filter(Files::isRegularFile)
+                .filter(path -> modifiedBefore(path, modifiedBefore))
+                .map(path -> root.relativize(path).toString().replace('\\', '/'));
+    }
+
+    private static boolean modifiedBefore(Path path, Instant instant) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(instant);
+        } catch (IOException e) {
+            // Removido durante a varredura, ou ilegível: fica para a próxima coleta.
+            return false;
+        }
+    }
+
+    @Override
+    public void createParts(String uploadId) throws IOException {
+        Files.createFile(partsFile(uploadId));
+    }
+
+    @Override
+    public long writePart(String uploadId, long offset, InputStream content, long maxLength) throws IOException {
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(partsFile(uploadId), StandardOpenOption.WRITE)) {
+            channel.position(offset);
+            byte[] buffer = new byte[bufferSize];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                if (written + read > maxLength) {
+                    throw new IllegalArgumentException("Parte maior que o permitido: máximo de " + maxLength + " bytes");
+                }
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    channel.write(chunk);
+                }
+                written += read;
+            }
+        }
+        return written;
+    }
+
+    @Override
+    public InputStream openParts(String uploadId) throws IOException {
+        return Files.newInputStream(partsFile(uploadId));
+    }
+
+    @Override
+    public void deleteParts(String uploadId) throws IOException {
+        Files.deleteIfExists(partsFile(uploadId));
+    }
+
+    /**
+     * Arquivo das partes de um upload. O id precisa ser um UUID, o que impede que aponte para fora de parts.
+     */
+    private Path partsFile(String uploadId) {
+        try {
+            return parts.resolve(UUID.fromString(uploadId).toString());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Upload inválido: " + uploadId);
+        }
+    }
+
+    /**
+     * Caminho do conteúdo, garantindo que a chave não aponte para fora da raiz.
+     */
+    Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.startsWith(tmp) || path.startsWith(parts)) {
+            throw new IllegalArgumentException("Chave de storage inválida: " + key);
+        }
+        return path;
+    }
+}
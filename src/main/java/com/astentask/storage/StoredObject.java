@@ -0,0 +1,7 @@
+package com.astentask.storage;
+
+/**
+ * Conteúdo gravado no storage: a chave para lê-lo de volta e o tamanho em bytes.
+ */
+public record StoredObject(String key, long size) {
+}
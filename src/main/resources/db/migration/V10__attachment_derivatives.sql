@@ -0,0 +1,13 @@
+-- Miniaturas e prévias de imagens anexadas, por conteúdo (checksum) e variante. Como o conteúdo, são
+-- compartilhadas pelos anexos com o mesmo checksum e removidas junto com o blob.
+
+CREATE TABLE attachment_derivatives (
+    checksum     VARCHAR(64)  NOT NULL,
+    variant      VARCHAR(16)  NOT NULL,
+    storage_key  VARCHAR(255) NOT NULL,
+    content_type VARCHAR(64)  NOT NULL,
+    size_bytes   BIGINT       NOT NULL,
+    created_at   TIMESTAMP    NOT NULL DEFAULT now(),
+    CONSTRAINT attachment_derivatives_pkey PRIMARY KEY (checksum, variant),
+    CONSTRAINT fk_attachment_derivatives_blob FOREIGN KEY (checksum) REFERENCES attachment_blobs (checksum)
+);
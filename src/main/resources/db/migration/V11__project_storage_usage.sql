@@ -0,0 +1,23 @@
+-- Espaço de anexos por projeto, mantido incrementalmente por TaskAttachmentService. used_bytes soma o tamanho
+-- original dos anexos; quota_bytes NULL usa a cota padrão (astentask.storage.quota.default-per-project).
+
+CREATE TABLE project_storage_usage (
+    project_id  BIGINT NOT NULL,
+    used_bytes  BIGINT NOT NULL DEFAULT 0,
+    attachments BIGINT NOT NULL DEFAULT 0,
+    quota_bytes BIGINT,
+    CONSTRAINT project_storage_usage_pkey PRIMARY KEY (project_id),
+    CONSTRAINT fk_project_storage_usage_project FOREIGN KEY (project_id) REFERENCES projects (id) ON DELETE CASCADE
+);
+
+-- Carga inicial a partir dos anexos existentes.
+INSERT INTO project_storage_usage (project_id, used_bytes, attachments)
+SELECT t.project_id, COALESCE(SUM(a.size_bytes), 0), COUNT(*)
+FROM task_attachment a JOIN tasks t ON t.id = a.task_id
+GROUP BY t.project_id;
+
+-- Consultas da coleta de conteúdo sem referência.
+CREATE INDEX idx_task_attachment_checksum ON task_attachment (checksum);
+CREATE INDEX idx_task_attachment_storage_key ON task_attachment (storage_key);
+CREATE INDEX idx_attachment_blobs_storage_key ON attachment_blobs (storage_key);
+CREATE INDEX idx_attachment_derivatives_storage_key ON attachment_derivatives (storage_key);
@@ -0,0 +1,79 @@
+-- Esquema inicial, equivalente ao que o ddl-auto=update gerava a partir das entidades.
+-- Bancos já existentes são marcados nesta versão pelo baseline-on-migrate e seguem a partir da V2.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id          BIGINT       NOT NULL,
+    name        VARCHAR(255),
+    email       VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    role        VARCHAR(255) NOT NULL CHECK (role IN ('ADMIN', 'PROJECT_MANAGER', 'DEVELOPER', 'VIEWER')),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT users_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE projects (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name        VARCHAR(255),
+    description VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    owner_id    BIGINT,
+    CONSTRAINT projects_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_projects_owner FOREIGN KEY (owner_id) REFERENCES users (id)
+);
+
+CREATE TABLE tasks (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    title       VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    status      VARCHAR(255) CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED')),
+    priority    VARCHAR(255) CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+    due_date    TIMESTAMP(6),
+    assignee_id BIGINT,
+    project_id  BIGINT       NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT tasks_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_assignee FOREIGN KEY (assignee_id) REFERENCES users (id),
+    CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
+
+CREATE TABLE comments (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    content     VARCHAR(1000) NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    task_id     BIGINT        NOT NULL,
+    author_id   BIGINT        NOT NULL,
+    CONSTRAINT comments_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_comments_task FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT fk_comments_author FOREIGN KEY (author_id) REFERENCES users (id)
+);
+
+CREATE TABLE timelogs (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    task_id             BIGINT       NOT NULL,
+    user_id             BIGINT       NOT NULL,
+    start_time          TIMESTAMP(6) NOT NULL,
+    end_time            TIMESTAMP(6),
+    duration_in_minutes INTEGER CHECK (duration_in_minutes >= 1),
+    created_at          TIMESTAMP(6),
+    updated_at          TIMESTAMP(6),
+    CONSTRAINT timelogs_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_timelogs_task FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT fk_timelogs_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE task_attachment (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    filename    VARCHAR(255),
+    file_type   VARCHAR(255),
+    data        BYTEA,
+    task_id     BIGINT NOT NULL,
+    CONSTRAINT task_attachment_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_task_attachment_task FOREIGN KEY (task_id) REFERENCES tasks (id)
+);
@@ -0,0 +1,26 @@
+-- Índices para os caminhos de acesso usados pelos repositórios.
+-- IF NOT EXISTS mantém a migração segura em bancos que já tinham algum índice criado à mão.
+
+-- Listagens e contagens por projeto filtradas por status (TaskSpecification, countByProjectIdAndStatus).
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status ON tasks (project_id, status);
+
+-- Listagem padrão do projeto (ORDER BY created_at DESC, id) e paginação por cursor.
+CREATE INDEX IF NOT EXISTS idx_tasks_project_created ON tasks (project_id, created_at, id);
+
+-- Dashboard "minhas tarefas" e countByAssigneeIdAndStatus.
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_status ON tasks (assignee_id, status);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_created_at ON tasks (created_at);
+CREATE INDEX IF NOT EXISTS idx_tasks_due_date ON tasks (due_date);
+
+-- Busca textual (parâmetro q). A expressão precisa ser idêntica à de TaskSearchFunctions.DOCUMENT.
+CREATE INDEX IF NOT EXISTS idx_tasks_search ON tasks
+    USING gin (to_tsvector('simple', coalesce(title, '') || ' ' || coalesce(description, '')));
+
+-- Registros de tempo da tarefa, filtrados e ordenados por start_time.
+CREATE INDEX IF NOT EXISTS idx_timelogs_task_start ON timelogs (task_id, start_time);
+CREATE INDEX IF NOT EXISTS idx_timelogs_user ON timelogs (user_id);
+
+CREATE INDEX IF NOT EXISTS idx_comments_task_created ON comments (task_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_task_attachment_task ON task_attachment (task_id);
+CREATE INDEX IF NOT EXISTS idx_projects_owner ON projects (owner_id);
@@ -0,0 +1,30 @@
+-- Modelo de leitura do dashboard: contadores mantidos incrementalmente por TaskService e TimeLogService.
+-- scope = USER (responsável/quem registrou o tempo) ou PROJECT; metric = TASKS_TOTAL, TASKS_<status> ou MINUTES_LOGGED.
+
+CREATE TABLE dashboard_counters (
+    scope    VARCHAR(16) NOT NULL,
+    scope_id BIGINT      NOT NULL,
+    metric   VARCHAR(64) NOT NULL,
+    value    BIGINT      NOT NULL DEFAULT 0,
+    CONSTRAINT dashboard_counters_pkey PRIMARY KEY (scope, scope_id, metric)
+);
+
+-- Carga inicial; mesma consulta usada pela reconciliação (DashboardCounterRepository).
+INSERT INTO dashboard_counters (scope, scope_id, metric, value)
+SELECT 'PROJECT', project_id, 'TASKS_TOTAL', COUNT(*)
+FROM tasks GROUP BY project_id
+UNION ALL
+SELECT 'PROJECT', project_id, 'TASKS_' || status, COUNT(*)
+FROM tasks WHERE status IS NOT NULL GROUP BY project_id, status
+UNION ALL
+SELECT 'USER', assignee_id, 'TASKS_TOTAL', COUNT(*)
+FROM tasks WHERE assignee_id IS NOT NULL GROUP BY assignee_id
+UNION ALL
+SELECT 'USER', assignee_id, 'TASKS_' || status, COUNT(*)
+FROM tasks WHERE assignee_id IS NOT NULL AND status IS NOT NULL GROUP BY assignee_id, status
+UNION ALL
+SELECT 'USER', user_id, 'MINUTES_LOGGED', COALESCE(SUM(duration_in_minutes), 0)
+FROM timelogs GROUP BY user_id
+UNION ALL
+SELECT 'PROJECT', t.project_id, 'MINUTES_LOGGED', COALESCE(SUM(l.duration_in_minutes), 0)
+FROM timelogs l JOIN tasks t ON t.id = l.task_id GROUP BY t.project_id;
@@ -0,0 +1,22 @@
+-- Minutos registrados por dia, tarefa e usuário, mantidos incrementalmente por TimeLogService.
+-- O dia é a data de start_time. project_id é copiado da tarefa (uma tarefa não muda de projeto)
+-- para que consultas por projeto não precisem de JOIN.
+
+CREATE TABLE timelog_daily_buckets (
+    task_id     BIGINT NOT NULL,
+    user_id     BIGINT NOT NULL,
+    bucket_date DATE   NOT NULL,
+    project_id  BIGINT NOT NULL,
+    minutes     BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT timelog_daily_buckets_pkey PRIMARY KEY (task_id, user_id, bucket_date)
+);
+
+CREATE INDEX idx_timelog_buckets_user_date ON timelog_daily_buckets (user_id, bucket_date);
+CREATE INDEX idx_timelog_buckets_project_date ON timelog_daily_buckets (project_id, bucket_date);
+CREATE INDEX idx_timelog_buckets_date ON timelog_daily_buckets (bucket_date);
+
+-- Carga inicial a partir dos registros existentes.
+INSERT INTO timelog_daily_buckets (task_id, user_id, bucket_date, project_id, minutes)
+SELECT l.task_id, l.user_id, CAST(l.start_time AS DATE), t.project_id, COALESCE(SUM(l.duration_in_minutes), 0)
+FROM timelogs l JOIN tasks t ON t.id = l.task_id
+GROUP BY l.task_id, l.user_id, CAST(l.start_time AS DATE), t.project_id;
@@ -0,0 +1,4 @@
+-- O conteúdo dos anexos passa a ficar no storage (AttachmentStorage); o banco guarda só a chave.
+-- Linhas antigas mantêm os bytes em data até serem movidas por POST /api/admin/attachments/migrate-storage.
+
+ALTER TABLE task_attachment ADD COLUMN storage_key VARCHAR(255);
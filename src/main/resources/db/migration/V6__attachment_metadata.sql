@@ -0,0 +1,22 @@
+-- Metadados e conteúdo dos anexos em tabelas separadas: listagens e consultas de metadados nunca leem bytea.
+-- Os bytes de anexos antigos vão para task_attachment_content até serem movidos para o storage.
+
+ALTER TABLE task_attachment ADD COLUMN size_bytes BIGINT;
+ALTER TABLE task_attachment ADD COLUMN checksum VARCHAR(64);
+ALTER TABLE task_attachment ADD COLUMN uploaded_at TIMESTAMP;
+
+CREATE TABLE task_attachment_content (
+    attachment_id BIGINT NOT NULL,
+    data          BYTEA  NOT NULL,
+    CONSTRAINT task_attachment_content_pkey PRIMARY KEY (attachment_id),
+    CONSTRAINT fk_task_attachment_content FOREIGN KEY (attachment_id) REFERENCES task_attachment (id) ON DELETE CASCADE
+);
+
+INSERT INTO task_attachment_content (attachment_id, data)
+SELECT id, data FROM task_attachment WHERE data IS NOT NULL AND storage_key IS NULL;
+
+-- Tamanho e checksum dos anexos que ainda estão no banco; os já movidos para o storage ficam sem esses dados.
+UPDATE task_attachment SET size_bytes = octet_length(data), checksum = encode(sha256(data), 'hex')
+WHERE data IS NOT NULL AND storage_key IS NULL;
+
+ALTER TABLE task_attachment DROP COLUMN data;
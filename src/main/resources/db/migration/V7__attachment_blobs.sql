@@ -0,0 +1,24 @@
+-- Conteúdo dos anexos endereçado pelo SHA-256: um arquivo no storage por conteúdo distinto, compartilhado
+-- pelos anexos com o mesmo checksum. ref_count é o número de anexos que apontam para o conteúdo.
+
+CREATE TABLE attachment_blobs (
+    checksum    VARCHAR(64)  NOT NULL,
+    storage_key VARCHAR(255) NOT NULL,
+    size_bytes  BIGINT       NOT NULL,
+    ref_count   INTEGER      NOT NULL,
+    created_at  TIMESTAMP    NOT NULL DEFAULT now(),
+    CONSTRAINT attachment_blobs_pkey PRIMARY KEY (checksum),
+    CONSTRAINT attachment_blobs_ref_count_check CHECK (ref_count >= 0)
+);
+
+-- Carga inicial com os anexos que já estão no storage. Cópias repetidas do mesmo conteúdo passam a apontar
+-- para uma única chave; os arquivos excedentes ficam sem referência no storage.
+INSERT INTO attachment_blobs (checksum, storage_key, size_bytes, ref_count)
+SELECT checksum, MIN(storage_key), MAX(size_bytes), COUNT(*)
+FROM task_attachment
+WHERE storage_key IS NOT NULL AND checksum IS NOT NULL AND size_bytes IS NOT NULL
+GROUP BY checksum;
+
+UPDATE task_attachment a SET storage_key = b.storage_key
+FROM attachment_blobs b
+WHERE a.checksum = b.checksum AND a.storage_key IS NOT NULL AND a.storage_key <> b.storage_key;
@@ -0,0 +1,5 @@
+-- Encoding do conteúdo gravado no storage ('deflate' ou NULL para os bytes originais). Fica no blob, que é o
+-- arquivo gravado, e é copiado para o anexo para que o download não precise consultar attachment_blobs.
+
+ALTER TABLE attachment_blobs ADD COLUMN content_encoding VARCHAR(16);
+ALTER TABLE task_attachment ADD COLUMN content_encoding VARCHAR(16);
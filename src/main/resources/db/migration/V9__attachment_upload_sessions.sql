@@ -0,0 +1,17 @@
+-- Uploads de anexos em partes. received_ranges guarda os intervalos já gravados ("0-1048575,2097152-3145727",
+-- inclusivos, como no Content-Range); as partes ficam no storage até o upload ser concluído ou expirar.
+
+CREATE TABLE attachment_upload_sessions (
+    id              VARCHAR(36)  NOT NULL,
+    task_id         BIGINT       NOT NULL,
+    owner           VARCHAR(255) NOT NULL,
+    filename        VARCHAR(255) NOT NULL,
+    file_type       VARCHAR(255),
+    size_bytes      BIGINT       NOT NULL,
+    received_ranges TEXT         NOT NULL DEFAULT '',
+    created_at      TIMESTAMP    NOT NULL,
+    expires_at      TIMESTAMP    NOT NULL,
+    CONSTRAINT attachment_upload_sessions_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_attachment_upload_sessions_expires ON attachment_upload_sessions (expires_at);
@@ -1,9 +1,8 @@
 package com.astentask;
 
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@PostgresIntegrationTest
 class AstentaskApplicationTests {
 
 	@Test
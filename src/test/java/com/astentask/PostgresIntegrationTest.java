@@ -0,0 +1,27 @@
+package com.astentask;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseType;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.RefreshMode;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Contexto completo sobre um PostgreSQL embutido, com as migrations do Flyway aplicadas. As consultas nativas
+ * (RETURNING, ON CONFLICT, SKIP LOCKED) não rodam no H2. O banco volta ao estado das migrations a cada teste e
+ * o conteúdo dos anexos vai para target/test-uploads.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest(properties = "astentask.storage.filesystem.root=target/test-uploads")
+@AutoConfigureEmbeddedDatabase(type = DatabaseType.POSTGRES, provider = DatabaseProvider.ZONKY,
+        refresh = RefreshMode.AFTER_EACH_TEST_METHOD)
+public @interface PostgresIntegrationTest {
+}
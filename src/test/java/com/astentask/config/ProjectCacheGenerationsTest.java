@@ -0,0 +1,64 @@
+package com.astentask.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uma geração que volta a um valor já usado reabre buscas invalidadas: cada projeto só pode ver valores novos,
+ * mesmo depois de sair do mapa limitado ou de ser excluído.
+ */
+class ProjectCacheGenerationsTest {
+
+    @Test
+    void invalidateChangesOnlyTheProjectAndTheGlobalGeneration() {
+        ProjectCacheGenerations generations = new ProjectCacheGenerations(100);
+        long first = generations.current(1L);
+        long second = generations.current(2L);
+        long global = generations.current(null);
+
+        generations.invalidate(1L);
+
+        assertThat(generations.current(1L)).isNotEqualTo(first);
+        assertThat(generations.current(2L)).isEqualTo(second);
+        assertThat(generations.current(null)).isNotEqualTo(global);
+    }
+
+    @Test
+    void forgottenProjectNeverGetsAnOldGenerationBack() {
+        ProjectCacheGenerations generations = new ProjectCacheGenerations(100);
+        List<Long> seen = new ArrayList<>();
+        seen.add(generations.current(1L));
+        generations.invalidate(1L);
+        seen.add(generations.current(1L));
+
+        generations.forget(1L);
+
+        assertThat(seen).doesNotContain(generations.current(1L));
+    }
+
+    @Test
+    void evictedProjectsNeverGetAnOldGenerationBack() {
+        ProjectCacheGenerations generations = new ProjectCacheGenerations(2);
+        Map<Long, List<Long>> seen = new HashMap<>();
+
+        for (int round = 0; round < 50; round++) {
+            for (long projectId = 1; projectId <= 5; projectId++) {
+                if (round % 3 == 0) {
+                    generations.invalidate(projectId);
+                }
+                long current = generations.current(projectId);
+                List<Long> values = seen.computeIfAbsent(projectId, id -> new ArrayList<>());
+                if (values.isEmpty() || values.get(values.size() - 1) != current) {
+                    assertThat(values).as("projeto %d", projectId).doesNotContain(current);
+                    values.add(current);
+                }
+            }
+        }
+    }
+}
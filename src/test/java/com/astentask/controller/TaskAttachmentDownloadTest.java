@@ -0,0 +1,211 @@
+package com.astentask.controller;
+
+import com.astentask.PostgresIntegrationTest;
+import com.astentask.model.Project;
+import com.astentask.model.Role;
+import com.astentask.model.Task;
+import com.astentask.model.TaskAttachment;
+import com.astentask.model.User;
+import com.astentask.repositories.ProjectRepository;
+import com.astentask.repositories.TaskAttachmentRepository;
+import com.astentask.repositories.TaskRepository;
+import com.astentask.repositories.UserRepository;
+import com.astentask.service.TaskAttachmentService;
+import com.astentask.storage.AttachmentStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Download de anexos: ETag/If-None-Match, Range e conteúdo comprimido no storage. Com deflate aceito, o Range
+ * vale sobre os bytes comprimidos (a representação enviada); sem ele, o corpo sai descomprimido e inteiro.
+ */
+@PostgresIntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "DEVELOPER")
+class TaskAttachmentDownloadTest {
+
+    private static final byte[] TEXT = "linha de log repetida para comprimir bem\n".repeat(50)
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARCHIVE = archiveBytes();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskAttachmentService attachmentService;
+
+    @Autowired
+    private TaskAttachmentRepository attachmentRepository;
+
+    @Autowired
+    private AttachmentStorage storage;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Long taskId;
+    private Long textId;
+    private Long archiveId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        User owner = userRepository.save(User.builder()
+                .name("gerente").email("gerente@astentask.com").password("secret").role(Role.PROJECT_MANAGER).build());
+        Project project = projectRepository.save(Project.builder().name("Projeto").owner(owner).build());
+        taskId = taskRepository.save(Task.builder().title("Tarefa").project(project).build()).getId();
+        textId = attachmentService.saveAttachment(taskId, "log.txt", "text/plain", TEXT.length,
+                new ByteArrayInputStream(TEXT)).getId();
+        archiveId = attachmentService.saveAttachment(taskId, "pacote.zip", "application/zip", ARCHIVE.length,
+                new ByteArrayInputStream(ARCHIVE)).getId();
+    }
+
+    @Test
+    void singleRangeReturnsPartialContent() throws Exception {
+        MvcResult result = mockMvc.perform(get(url(archiveId)).header(HttpHeaders.RANGE, "bytes=100-199"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/" + ARCHIVE.length))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(ARCHIVE, 100, 200));
+    }
+
+    @Test
+    void unsatisfiableRangeReturns416() throws Exception {
+        mockMvc.perform(get(url(archiveId)).header(HttpHeaders.RANGE, "bytes=" + ARCHIVE.length + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + ARCHIVE.length));
+    }
+
+    @Test
+    void matchingETagReturns304() throws Exception {
+        String eTag = mockMvc.perform(get(url(archiveId)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(ARCHIVE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(url(archiveId)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void rangeOverCompressedContentCountsStoredBytes() throws Exception {
+        byte[] stored = storedBytes(textId);
+        assertThat(stored.length).isLessThan(TEXT.length);
+
+        MvcResult result = mockMvc.perform(get(url(textId))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                        .header(HttpHeaders.RANGE, "bytes=10-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "deflate"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE,
+                        "bytes 10-" + (stored.length - 1) + "/" + stored.length))
+                .andReturn();
+        byte[] tail = result.getResponse().getContentAsByteArray();
+        assertThat(tail).isEqualTo(Arrays.copyOfRange(stored, 10, stored.length));
+
+        byte[] head = mockMvc.perform(get(url(textId))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "deflate")
+                        .header(HttpHeaders.RANGE, "bytes=0-9"))
+                .andExpect(status().isPartialContent())
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] joined = Arrays.copyOf(head, head.length + tail.length);
+        System.arraycopy(tail, 0, joined, head.length, tail.length);
+        assertThat(inflate(joined)).isEqualTo(TEXT);
+
+        mockMvc.perform(get(url(textId))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "deflate")
+                        .header(HttpHeaders.RANGE, "bytes=" + stored.length + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + stored.length));
+    }
+
+    @Test
+    void rangeIsIgnoredWhenCompressedContentIsDecoded() throws Exception {
+        mockMvc.perform(get(url(textId))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(TEXT));
+    }
+
+    @Test
+    void eTagIsPerRepresentation() throws Exception {
+        String compressedETag = mockMvc.perform(get(url(textId)).header(HttpHeaders.ACCEPT_ENCODING, "deflate"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String decodedETag = mockMvc.perform(get(url(textId)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(compressedETag).endsWith("-deflate\"").isNotEqualTo(decodedETag);
+
+        // O ETag da versão comprimida não vale para um cliente que recebe o conteúdo descomprimido.
+        mockMvc.perform(get(url(textId)).header(HttpHeaders.IF_NONE_MATCH, compressedETag))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(TEXT));
+        mockMvc.perform(get(url(textId))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "deflate")
+                        .header(HttpHeaders.IF_NONE_MATCH, compressedETag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(url(textId)).header(HttpHeaders.IF_NONE_MATCH, decodedETag))
+                .andExpect(status().isNotModified());
+    }
+
+    private String url(Long attachmentId) {
+        return "/api/tasks/" + taskId + "/attachments/" + attachmentId;
+    }
+
+    private byte[] storedBytes(Long attachmentId) throws IOException {
+        TaskAttachment attachment = attachmentRepository.findById(attachmentId).orElseThrow();
+        assertThat(attachment.getContentEncoding()).isEqualTo("deflate");
+        try (InputStream in = storage.resource(attachment.getStorageKey()).getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] inflate(byte[] deflated) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(deflated))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] archiveBytes() {
+        byte[] bytes = new byte[1000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+}
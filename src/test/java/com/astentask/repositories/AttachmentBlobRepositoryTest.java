@@ -0,0 +1,146 @@
+package com.astentask.repositories;
+
+import com.astentask.PostgresIntegrationTest;
+import com.astentask.dtos.TaskAttachmentDTO;
+import com.astentask.model.Project;
+import com.astentask.model.Role;
+import com.astentask.model.Task;
+import com.astentask.model.User;
+import com.astentask.service.TaskAttachmentService;
+import com.astentask.storage.AttachmentStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contagem de referências do conteúdo deduplicado: o arquivo só pode sair do storage quando o último anexo
+ * que aponta para ele é removido.
+ */
+@PostgresIntegrationTest
+class AttachmentBlobRepositoryTest {
+
+    private static final byte[] CONTENT = "mesmo conteúdo em dois anexos".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private AttachmentBlobRepository blobRepository;
+
+    @Autowired
+    private TaskAttachmentService attachmentService;
+
+    @Autowired
+    private TaskAttachmentRepository attachmentRepository;
+
+    @Autowired
+    private AttachmentStorage storage;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(User.builder()
+                .name("gerente").email("gerente@astentask.com").password("secret").role(Role.PROJECT_MANAGER).build());
+        Project project = projectRepository.save(Project.builder().name("Projeto").owner(owner).build());
+        taskId = taskRepository.save(Task.builder().title("Tarefa").project(project).build()).getId();
+    }
+
+    @Test
+    void acquireReusesTheExistingBlobForTheSameChecksum() {
+        String checksum = "a".repeat(64);
+
+        AttachmentBlobRepository.Blob first = blobRepository.acquire(checksum, "aa/aa/primeiro", 10, null);
+        AttachmentBlobRepository.Blob second = blobRepository.acquire(checksum, "bb/bb/segundo", 10, "gzip");
+
+        assertThat(first.storageKey()).isEqualTo("aa/aa/primeiro");
+        assertThat(second).isEqualTo(first);
+        assertThat(refCount(checksum)).isEqualTo(2);
+    }
+
+    @Test
+    void releaseReturnsKeysOnlyForTheLastReference() {
+        String checksum = "b".repeat(64);
+        blobRepository.acquire(checksum, "aa/aa/conteudo", 10, null);
+        blobRepository.acquire(checksum, "bb/bb/copia", 10, null);
+
+        assertThat(blobRepository.release(checksum)).isEmpty();
+        assertThat(refCount(checksum)).isEqualTo(1);
+
+        assertThat(blobRepository.release(checksum)).containsExactly("aa/aa/conteudo");
+        assertThat(blobCount(checksum)).isZero();
+    }
+
+    @Test
+    void uploadsOfTheSameContentShareOneBlob() throws IOException {
+        TaskAttachmentDTO first = upload("primeiro.txt");
+        TaskAttachmentDTO second = upload("segundo.txt");
+
+        assertThat(second.getChecksum()).isEqualTo(first.getChecksum());
+        assertThat(refCount(first.getChecksum())).isEqualTo(2);
+        assertThat(storageKeys()).hasSize(1);
+    }
+
+    @Test
+    void deletingOneOfTwoAttachmentsKeepsTheSharedContent() throws IOException {
+        TaskAttachmentDTO first = upload("primeiro.txt");
+        upload("segundo.txt");
+        String key = storageKeys().get(0);
+
+        attachmentService.deleteAttachment(first.getId());
+
+        assertThat(refCount(first.getChecksum())).isEqualTo(1);
+        assertThat(storage.exists(key)).isTrue();
+    }
+
+    @Test
+    void deletingTheLastAttachmentRemovesTheBlobAndItsContent() throws IOException {
+        TaskAttachmentDTO first = upload("primeiro.txt");
+        TaskAttachmentDTO second = upload("segundo.txt");
+        String key = storageKeys().get(0);
+
+        attachmentService.deleteAttachment(first.getId());
+        attachmentService.deleteAttachment(second.getId());
+
+        assertThat(attachmentRepository.count()).isZero();
+        assertThat(blobCount(first.getChecksum())).isZero();
+        assertThat(storage.exists(key)).isFalse();
+    }
+
+    private TaskAttachmentDTO upload(String filename) throws IOException {
+        return attachmentService.saveAttachment(taskId, filename, "text/plain", CONTENT.length,
+                new ByteArrayInputStream(CONTENT));
+    }
+
+    private int refCount(String checksum) {
+        return jdbcTemplate.queryForObject("SELECT ref_count FROM attachment_blobs WHERE checksum = ?",
+                Integer.class, checksum);
+    }
+
+    private int blobCount(String checksum) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attachment_blobs WHERE checksum = ?",
+                Integer.class, checksum);
+    }
+
+    /** Chaves distintas em uso pelos anexos. */
+    private List<String> storageKeys() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT storage_key FROM task_attachment", String.class);
+    }
+}
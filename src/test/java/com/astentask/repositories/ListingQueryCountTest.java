@@ -0,0 +1,110 @@
+package com.astentask.repositories;
+
+import com.astentask.dtos.ProjectResponseDTO;
+import com.astentask.dtos.TaskResponseDTO;
+import com.astentask.mapper.ProjectMapper;
+import com.astentask.mapper.TaskMapper;
+import com.astentask.model.Project;
+import com.astentask.model.Role;
+import com.astentask.model.Task;
+import com.astentask.model.User;
+import com.astentask.specification.ProjectSpecification;
+import com.astentask.specification.TaskSpecification;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cada página da listagem deve custar um SELECT dos dados e um COUNT, independente do tamanho da página.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ListingQueryCountTest {
+
+    private static final int ROWS = 60;
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private Long boardId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User manager = entityManager.persist(user("gerente"));
+        Project board = entityManager.persist(Project.builder().name("Quadro").owner(manager).build());
+        boardId = board.getId();
+
+        // Cada tarefa e cada projeto tem um usuário diferente, para que um carregamento tardio apareça como N consultas.
+        for (int i = 0; i < ROWS; i++) {
+            User user = entityManager.persist(user("dev" + i));
+            entityManager.persist(Project.builder().name("Projeto " + i).owner(user).build());
+            entityManager.persist(Task.builder().title("Tarefa " + i).project(board).assignee(user).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void taskPageLoadsAssigneesWithTheRows() {
+        TaskMapper mapper = new TaskMapper();
+
+        List<TaskResponseDTO> content = taskRepository.findAll(
+                        TaskSpecification.withFilters(boardId, null, null, null, null, null, null),
+                        PageRequest.of(0, PAGE_SIZE, Sort.by("id")))
+                .map(mapper::toDTO)
+                .getContent();
+
+        assertThat(content).hasSize(PAGE_SIZE).allSatisfy(dto -> assertThat(dto.getAssigneeName()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void projectPageLoadsOwnersWithTheRows() {
+        List<ProjectResponseDTO> content = projectRepository.findAll(
+                        ProjectSpecification.hasNameLike("projeto"),
+                        PageRequest.of(0, PAGE_SIZE, Sort.by("id")))
+                .map(ProjectMapper::toDto)
+                .getContent();
+
+        assertThat(content).hasSize(PAGE_SIZE).allSatisfy(dto -> assertThat(dto.getOwner().getEmail()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private static User user(String login) {
+        return User.builder()
+                .name(login)
+                .email(login + "@astentask.com")
+                .password("secret")
+                .role(Role.DEVELOPER)
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.astentask.repositories;
+
+import com.astentask.PostgresIntegrationTest;
+import com.astentask.dtos.TaskBulkAssignRequestDTO;
+import com.astentask.dtos.TaskBulkStatusRequestDTO;
+import com.astentask.dtos.TaskFilterDTO;
+import com.astentask.dtos.TaskRequestDTO;
+import com.astentask.model.CounterScope;
+import com.astentask.model.Project;
+import com.astentask.model.Role;
+import com.astentask.model.TaskStatus;
+import com.astentask.model.User;
+import com.astentask.service.DashboardCounterService;
+import com.astentask.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.astentask.service.DashboardCounterService.TASKS_TOTAL;
+import static com.astentask.service.DashboardCounterService.tasksMetric;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Alterações em massa: o RETURNING do UPDATE devolve o estado anterior de cada tarefa, e é dele que saem os
+ * deltas dos contadores do dashboard.
+ */
+@PostgresIntegrationTest
+class TaskBulkRepositoryTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private DashboardCounterService counterService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long projectId;
+    private Long otherProjectId;
+    private Long ana;
+    private Long bruno;
+    private Long pending;
+    private Long inProgress;
+    private Long unassigned;
+    private Long otherProject;
+
+    @BeforeEach
+    void setUp() {
+        ana = userRepository.save(user("ana")).getId();
+        bruno = userRepository.save(user("bruno")).getId();
+        User owner = userRepository.save(user("gerente"));
+        projectId = projectRepository.save(Project.builder().name("Projeto").owner(owner).build()).getId();
+        otherProjectId = projectRepository.save(Project.builder().name("Outro").owner(owner).build()).getId();
+
+        pending = create(projectId, TaskStatus.PENDING, ana);
+        inProgress = create(projectId, TaskStatus.IN_PROGRESS, ana);
+        unassigned = create(projectId, TaskStatus.PENDING, null);
+        otherProject = create(otherProjectId, TaskStatus.PENDING, ana);
+    }
+
+    @Test
+    void updateStatusReturnsThePreviousState() {
+        List<TaskRef> previous = inTransaction(() ->
+                taskRepository.updateStatus(List.of(pending, inProgress, unassigned), null, TaskStatus.COMPLETED));
+
+        assertThat(previous)
+                .extracting(TaskRef::getId, TaskRef::getProjectId, TaskRef::getAssigneeId, TaskRef::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(pending, projectId, ana, TaskStatus.PENDING),
+                        tuple(inProgress, projectId, ana, TaskStatus.IN_PROGRESS),
+                        tuple(unassigned, projectId, null, TaskStatus.PENDING));
+        assertThat(taskRepository.findAllById(List.of(pending, inProgress, unassigned)))
+                .allSatisfy(task -> assertThat(task.getStatus()).isEqualTo(TaskStatus.COMPLETED));
+    }
+
+    @Test
+    void updateAssigneeByFilterReturnsThePreviousAssignee() {
+        TaskFilterDTO filter = TaskFilterDTO.builder().projectId(projectId).status(TaskStatus.PENDING).build();
+
+        List<TaskRef> previous = inTransaction(() -> taskRepository.updateAssignee(null, filter, bruno));
+
+        assertThat(previous)
+                .extracting(TaskRef::getId, TaskRef::getAssigneeId, TaskRef::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(pending, ana, TaskStatus.PENDING),
+                        tuple(unassigned, null, TaskStatus.PENDING));
+        assertThat(taskRepository.findById(inProgress).orElseThrow().getAssignee().getId()).isEqualTo(ana);
+        assertThat(taskRepository.findById(otherProject).orElseThrow().getAssignee().getId()).isEqualTo(ana);
+    }
+
+    @Test
+    void bulkStatusMovesTheDashboardCounters() {
+        TaskFilterDTO filter = TaskFilterDTO.builder().projectId(projectId).status(TaskStatus.PENDING).build();
+
+        taskService.updateStatusInBulk(new TaskBulkStatusRequestDTO(null, filter, TaskStatus.IN_PROGRESS));
+
+        Map<String, Long> project = counterService.countersFor(CounterScope.PROJECT, projectId);
+        assertThat(project).containsEntry(TASKS_TOTAL, 3L)
+                .containsEntry(tasksMetric(TaskStatus.PENDING), 0L)
+                .containsEntry(tasksMetric(TaskStatus.IN_PROGRESS), 3L);
+        Map<String, Long> user = counterService.countersFor(CounterScope.USER, ana);
+        assertThat(user).containsEntry(TASKS_TOTAL, 3L)
+                .containsEntry(tasksMetric(TaskStatus.PENDING), 1L)
+                .containsEntry(tasksMetric(TaskStatus.IN_PROGRESS), 2L);
+        assertThat(counterService.countersFor(CounterScope.PROJECT, otherProjectId))
+                .containsEntry(tasksMetric(TaskStatus.PENDING), 1L);
+        assertThat(inTransaction(counterService::reconcile)).isZero();
+    }
+
+    @Test
+    void bulkAssignMovesTheDashboardCounters() {
+        taskService.assignUserInBulk(new TaskBulkAssignRequestDTO(List.of(pending, unassigned), null, bruno));
+
+        assertThat(counterService.countersFor(CounterScope.USER, ana))
+                .containsEntry(TASKS_TOTAL, 2L)
+                .containsEntry(tasksMetric(TaskStatus.PENDING), 1L);
+        assertThat(counterService.countersFor(CounterScope.USER, bruno))
+                .containsEntry(TASKS_TOTAL, 2L)
+                .containsEntry(tasksMetric(TaskStatus.PENDING), 2L);
+        assertThat(counterService.countersFor(CounterScope.PROJECT, projectId))
+                .containsEntry(TASKS_TOTAL, 3L)
+                .containsEntry(tasksMetric(TaskStatus.PENDING), 2L);
+        assertThat(inTransaction(counterService::reconcile)).isZero();
+    }
+
+    private Long create(Long project, TaskStatus status, Long assigneeId) {
+        return taskService.createTask(project, TaskRequestDTO.builder()
+                .title("Tarefa " + status).status(status).assigneeId(assigneeId).build()).getId();
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private static User user(String login) {
+        return User.builder()
+                .name(login)
+                .email(login + "@astentask.com")
+                .password("secret")
+                .role(Role.DEVELOPER)
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.astentask.security;
+
+import com.astentask.security.JwtUtil.TokenType;
+import com.astentask.security.JwtUtil.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * O cache de tokens verificados nunca pode aceitar o que a verificação recusaria: um token vencido depois de
+ * entrar no cache, ou um token com as mesmas claims mas assinatura ou conteúdo alterados.
+ */
+class JwtUtilTest {
+
+    private MutableClock clock;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-08-01T10:00:00Z"));
+        jwtUtil = new JwtUtil(100, clock, () -> TimeUnit.MILLISECONDS.toNanos(clock.millis()));
+    }
+
+    @Test
+    void verifiedTokenIsServedFromTheCache() {
+        String token = jwtUtil.generateAccessToken("dev@astentask.com", "DEVELOPER");
+
+        VerifiedToken first = jwtUtil.verify(token).orElseThrow();
+
+        assertThat(first.email()).isEqualTo("dev@astentask.com");
+        assertThat(first.role()).isEqualTo("DEVELOPER");
+        assertThat(first.type()).isEqualTo(TokenType.ACCESS);
+        assertThat(jwtUtil.verify(token)).containsSame(first);
+    }
+
+    @Test
+    void cachedTokenIsRejectedOnceItExpires() {
+        String token = jwtUtil.generateAccessToken("dev@astentask.com", "DEVELOPER");
+        assertThat(jwtUtil.verify(token)).isPresent();
+
+        clock.advance(Duration.ofMinutes(14));
+        assertThat(jwtUtil.verify(token)).isPresent();
+
+        clock.advance(Duration.ofMinutes(1).plusSeconds(1));
+        assertThat(jwtUtil.verify(token)).isEmpty();
+    }
+
+    @Test
+    void tamperedSignatureMissesTheCache() {
+        String token = jwtUtil.generateAccessToken("dev@astentask.com", "DEVELOPER");
+        assertThat(jwtUtil.verify(token)).isPresent();
+
+        int middle = token.lastIndexOf('.') + 10;
+        char replaced = token.charAt(middle) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, middle) + replaced + token.substring(middle + 1);
+
+        assertThat(jwtUtil.verify(tampered)).isEmpty();
+        assertThat(jwtUtil.verify(token)).isPresent();
+    }
+
+    @Test
+    void tamperedClaimsMissTheCache() {
+        String token = jwtUtil.generateAccessToken("dev@astentask.com", "DEVELOPER");
+        assertThat(jwtUtil.verify(token)).isPresent();
+
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.replace("DEVELOPER", "ADMIN").getBytes(StandardCharsets.UTF_8));
+
+        assertThat(jwtUtil.verify(parts[0] + "." + forged + "." + parts[2])).isEmpty();
+    }
+
+    @Test
+    void sameClaimsSignedWithAnotherKeyAreRejected() {
+        String token = jwtUtil.generateAccessToken("dev@astentask.com", "DEVELOPER");
+        VerifiedToken verified = jwtUtil.verify(token).orElseThrow();
+
+        String forged = Jwts.builder()
+                .setSubject(verified.email())
+                .claim("role", verified.role())
+                .claim("type", verified.type().name())
+                .setIssuedAt(new Date(clock.millis()))
+                .setExpiration(verified.expiresAt())
+                .signWith(Keys.hmacShaKeyFor("outra-chave-secreta-com-tamanho-suficiente-hs256".getBytes()),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(jwtUtil.verify(forged)).isEmpty();
+    }
+
+    @Test
+    void missingTokenIsRejected() {
+        assertThat(jwtUtil.verify(null)).isEmpty();
+        assertThat(jwtUtil.verify(" ")).isEmpty();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.astentask.service;
+
+import com.astentask.PostgresIntegrationTest;
+import com.astentask.dtos.StorageGcResultDTO;
+import com.astentask.dtos.TaskAttachmentDTO;
+import com.astentask.model.AttachmentVariant;
+import com.astentask.model.Project;
+import com.astentask.model.Role;
+import com.astentask.model.Task;
+import com.astentask.model.User;
+import com.astentask.repositories.AttachmentBlobRepository;
+import com.astentask.repositories.AttachmentDerivativeRepository;
+import com.astentask.repositories.AttachmentDerivativeRepository.Derivative;
+import com.astentask.repositories.ProjectRepository;
+import com.astentask.repositories.TaskRepository;
+import com.astentask.repositories.UserRepository;
+import com.astentask.storage.AttachmentStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A coleta só alcança o que passou do período de carência ({@code astentask.storage.gc.grace-period}, 1 h) e
+ * nunca apaga um arquivo que ainda aparece em um anexo, blob ou variante.
+ */
+@PostgresIntegrationTest
+class AttachmentGarbageCollectorTest {
+
+    private static final Duration PAST_GRACE = Duration.ofHours(2);
+
+    @Autowired
+    private AttachmentGarbageCollector collector;
+
+    @Autowired
+    private AttachmentBlobRepository blobRepository;
+
+    @Autowired
+    private AttachmentDerivativeRepository derivativeRepository;
+
+    @Autowired
+    private TaskAttachmentService attachmentService;
+
+    @Autowired
+    private AttachmentStorage storage;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${astentask.storage.filesystem.root}")
+    private Path storageRoot;
+
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(User.builder()
+                .name("gerente").email("gerente@astentask.com").password("secret").role(Role.PROJECT_MANAGER).build());
+        Project project = projectRepository.save(Project.builder().name("Projeto").owner(owner).build());
+        taskId = taskRepository.save(Task.builder().title("Tarefa").project(project).build()).getId();
+    }
+
+    @Test
+    void orphanBlobIsCollectedOnlyAfterTheGracePeriod() throws IOException {
+        String oldKey = orphanBlob("a".repeat(64));
+        String recentKey = orphanBlob("b".repeat(64));
+        ageBlob("a".repeat(64));
+
+        StorageGcResultDTO result = collector.collect();
+
+        assertThat(result.getBlobsRemoved()).isEqualTo(1);
+        assertThat(blobChecksums()).containsExactly("b".repeat(64));
+        assertThat(storage.exists(oldKey)).isFalse();
+        assertThat(storage.exists(recentKey)).isTrue();
+    }
+
+    @Test
+    void orphanBlobTakesItsDerivativesAlong() throws IOException {
+        String checksum = "c".repeat(64);
+        String key = orphanBlob(checksum);
+        String thumbnail = store("miniatura");
+        derivativeRepository.insert(checksum, AttachmentVariant.THUMB,
+                new Derivative(thumbnail, "image/png", 9));
+        ageBlob(checksum);
+
+        collector.collect();
+
+        assertThat(blobChecksums()).isEmpty();
+        assertThat(derivativeRepository.findVariants(checksum)).isEmpty();
+        assertThat(storage.exists(key)).isFalse();
+        assertThat(storage.exists(thumbnail)).isFalse();
+    }
+
+    @Test
+    void blobStillUsedByAnAttachmentIsKept() throws IOException {
+        TaskAttachmentDTO attachment = attachmentService.saveAttachment(taskId, "nota.txt", "text/plain", 4,
+                new ByteArrayInputStream("nota".getBytes(StandardCharsets.UTF_8)));
+        ageBlob(attachment.getChecksum());
+        String key = storageKeyOf(attachment.getChecksum());
+        ageFile(key);
+
+        StorageGcResultDTO result = collector.collect();
+
+        assertThat(result.getBlobsRemoved()).isZero();
+        assertThat(blobChecksums()).containsExactly(attachment.getChecksum());
+        assertThat(storage.exists(key)).isTrue();
+    }
+
+    @Test
+    void findUnreferencedSkipsKeysReferencedByAnyRow() throws IOException {
+        String blobKey = orphanBlob("d".repeat(64));
+        String derivativeKey = store("miniatura");
+        derivativeRepository.insert("d".repeat(64), AttachmentVariant.THUMB,
+                new Derivative(derivativeKey, "image/png", 9));
+        String attachmentKey = store("anexo sem blob");
+        jdbcTemplate.update("INSERT INTO task_attachment (filename, task_id, storage_key) VALUES (?, ?, ?)",
+                "antigo.txt", taskId, attachmentKey);
+        String strayKey = store("sobra de upload interrompido");
+
+        assertThat(blobRepository.findUnreferenced(List.of(blobKey, derivativeKey, attachmentKey, strayKey)))
+                .containsExactly(strayKey);
+    }
+
+    @Test
+    void unreferencedFilesAreRemovedButBlobFilesStay() throws IOException {
+        // Blob recente (fora da coleta de blobs) com o arquivo antigo: só a referência no banco o protege.
+        String blobKey = orphanBlob("e".repeat(64));
+        String strayKey = store("sobra de upload interrompido");
+        String recentStrayKey = store("upload ainda em gravação");
+        ageFile(blobKey);
+        ageFile(strayKey);
+
+        collector.collect();
+
+        assertThat(storage.exists(blobKey)).isTrue();
+        assertThat(storage.exists(strayKey)).isFalse();
+        assertThat(storage.exists(recentStrayKey)).isTrue();
+    }
+
+    private String orphanBlob(String checksum) throws IOException {
+        String key = store(checksum);
+        blobRepository.acquire(checksum, key, checksum.length(), null);
+        return key;
+    }
+
+    private String store(String content) throws IOException {
+        return storage.store(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))).key();
+    }
+
+    private void ageBlob(String checksum) {
+        jdbcTemplate.update("UPDATE attachment_blobs SET created_at = ? WHERE checksum = ?",
+                LocalDateTime.now().minus(PAST_GRACE), checksum);
+    }
+
+    private void ageFile(String key) throws IOException {
+        Files.setLastModifiedTime(storageRoot.resolve(key), FileTime.from(Instant.now().minus(PAST_GRACE)));
+    }
+
+    private String storageKeyOf(String checksum) {
+        return jdbcTemplate.queryForObject("SELECT storage_key FROM attachment_blobs WHERE checksum = ?",
+                String.class, checksum);
+    }
+
+    private List<String> blobChecksums() {
+        return jdbcTemplate.queryForList("SELECT checksum FROM attachment_blobs ORDER BY checksum", String.class);
+    }
+}
@@ -0,0 +1,128 @@
+package com.astentask.service;
+
+import com.astentask.PostgresIntegrationTest;
+import com.astentask.dtos.TaskAttachmentDTO;
+import com.astentask.dtos.UploadSessionDTO;
+import com.astentask.dtos.UploadSessionRequestDTO;
+import com.astentask.exception.BadRequestException;
+import com.astentask.exception.ResourceNotFoundException;
+import com.astentask.model.Project;
+import com.astentask.model.Role;
+import com.astentask.model.Task;
+import com.astentask.model.User;
+import com.astentask.repositories.ProjectRepository;
+import com.astentask.repositories.TaskAttachmentRepository;
+import com.astentask.repositories.TaskRepository;
+import com.astentask.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Montagem de uploads em partes: a ordem de chegada não importa, partes repetidas ou sobrepostas não contam
+ * bytes duas vezes e só um arquivo completo vira anexo, uma única vez.
+ */
+@PostgresIntegrationTest
+class AttachmentUploadServiceTest {
+
+    private static final String OWNER = "dev@astentask.com";
+    private static final String CONTENT = "0123456789";
+
+    @Autowired
+    private AttachmentUploadService uploadService;
+
+    @Autowired
+    private TaskAttachmentRepository attachmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Long taskId;
+    private String uploadId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        User owner = userRepository.save(User.builder()
+                .name("gerente").email("gerente@astentask.com").password("secret").role(Role.PROJECT_MANAGER).build());
+        Project project = projectRepository.save(Project.builder().name("Projeto").owner(owner).build());
+        taskId = taskRepository.save(Task.builder().title("Tarefa").project(project).build()).getId();
+        uploadId = uploadService.initiate(taskId,
+                new UploadSessionRequestDTO("numeros.txt", "text/plain", (long) CONTENT.length()), OWNER).getId();
+    }
+
+    @Test
+    void chunksOutOfOrderAssembleTheFile() throws IOException {
+        assertThat(chunk(5, "56789").getReceivedRanges()).containsExactly("5-9");
+        UploadSessionDTO session = chunk(0, "01234");
+
+        assertThat(session.getReceived()).isEqualTo(10);
+        assertThat(session.getReceivedRanges()).containsExactly("0-9");
+        assertThat(complete().getChecksum()).isEqualTo(sha256(CONTENT));
+    }
+
+    @Test
+    void repeatedAndOverlappingChunksAreCountedOnce() throws IOException {
+        chunk(0, "012345");
+        chunk(0, "012345");
+        UploadSessionDTO session = chunk(3, "3456789");
+
+        assertThat(session.getReceived()).isEqualTo(10);
+        assertThat(session.getReceivedRanges()).containsExactly("0-9");
+        assertThat(complete().getChecksum()).isEqualTo(sha256(CONTENT));
+    }
+
+    @Test
+    void completeWithAGapIsRejected() throws IOException {
+        chunk(0, "012");
+        chunk(6, "6789");
+
+        assertThatThrownBy(this::complete)
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("7 de 10");
+        assertThat(attachmentRepository.count()).isZero();
+
+        UploadSessionDTO session = uploadService.getSession(taskId, uploadId, OWNER);
+        assertThat(session.getReceivedRanges()).containsExactly("0-2", "6-9");
+
+        chunk(3, "345");
+        assertThat(complete().getChecksum()).isEqualTo(sha256(CONTENT));
+    }
+
+    @Test
+    void completingTwiceCreatesOneAttachment() throws IOException {
+        chunk(0, CONTENT);
+        complete();
+
+        assertThatThrownBy(this::complete).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> chunk(0, CONTENT)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(attachmentRepository.count()).isEqualTo(1);
+    }
+
+    private UploadSessionDTO chunk(long offset, String content) throws IOException {
+        return uploadService.uploadChunk(taskId, uploadId, offset,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), OWNER);
+    }
+
+    private TaskAttachmentDTO complete() throws IOException {
+        return uploadService.complete(taskId, uploadId, OWNER);
+    }
+
+    private static String sha256(String content) {
+        return HexFormat.of().formatHex(
+                TaskAttachmentService.sha256().digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
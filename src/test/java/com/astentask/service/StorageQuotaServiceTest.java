@@ -0,0 +1,143 @@
+package com.astentask.service;
+
+import com.astentask.PostgresIntegrationTest;
+import com.astentask.dtos.TaskAttachmentDTO;
+import com.astentask.exception.StorageQuotaExceededException;
+import com.astentask.model.Project;
+import com.astentask.model.Role;
+import com.astentask.model.Task;
+import com.astentask.model.User;
+import com.astentask.repositories.ProjectRepository;
+import com.astentask.repositories.TaskAttachmentRepository;
+import com.astentask.repositories.TaskRepository;
+import com.astentask.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * O uso de cada projeto acompanha a transação do upload ou da exclusão: o que é desfeito no banco também é
+ * desfeito na contagem.
+ */
+@PostgresIntegrationTest
+class StorageQuotaServiceTest {
+
+    private static final byte[] CONTENT = "conteúdo do anexo".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private StorageQuotaService quotaService;
+
+    @Autowired
+    private TaskAttachmentService attachmentService;
+
+    @Autowired
+    private TaskAttachmentRepository attachmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Long projectId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        User owner = userRepository.save(User.builder()
+                .name("gerente").email("gerente@astentask.com").password("secret").role(Role.PROJECT_MANAGER).build());
+        Project project = projectRepository.save(Project.builder().name("Projeto").owner(owner).build());
+        projectId = project.getId();
+        taskId = taskRepository.save(Task.builder().title("Tarefa").project(project).build()).getId();
+    }
+
+    @Test
+    void reserveIsUndoneWhenTheTransactionRollsBack() {
+        transaction.executeWithoutResult(status -> {
+            quotaService.reserve(projectId, 60);
+            status.setRollbackOnly();
+        });
+
+        assertThat(quotaService.getUsage(projectId).getUsedBytes()).isZero();
+        assertThat(quotaService.getUsage(projectId).getAttachments()).isZero();
+    }
+
+    @Test
+    void releaseIsUndoneWhenTheTransactionRollsBack() {
+        quotaService.reserve(projectId, 60);
+
+        transaction.executeWithoutResult(status -> {
+            quotaService.release(projectId, 60);
+            status.setRollbackOnly();
+        });
+
+        assertThat(quotaService.getUsage(projectId).getUsedBytes()).isEqualTo(60);
+        assertThat(quotaService.getUsage(projectId).getAttachments()).isEqualTo(1);
+    }
+
+    @Test
+    void reserveRefusesBytesBeyondTheQuota() {
+        quotaService.setQuota(projectId, 100L);
+        quotaService.reserve(projectId, 60);
+
+        assertThatThrownBy(() -> quotaService.reserve(projectId, 41))
+                .isInstanceOf(StorageQuotaExceededException.class);
+        quotaService.reserve(projectId, 40);
+
+        assertThat(quotaService.getUsage(projectId).getUsedBytes()).isEqualTo(100);
+        assertThat(quotaService.getUsage(projectId).getAttachments()).isEqualTo(2);
+    }
+
+    @Test
+    void uploadRolledBackDoesNotKeepItsReservation() {
+        transaction.executeWithoutResult(status -> {
+            upload();
+            status.setRollbackOnly();
+        });
+
+        assertThat(attachmentRepository.count()).isZero();
+        assertThat(quotaService.getUsage(projectId).getUsedBytes()).isZero();
+    }
+
+    @Test
+    void deletionRolledBackKeepsTheAttachmentCounted() {
+        TaskAttachmentDTO saved = upload();
+
+        transaction.executeWithoutResult(status -> {
+            attachmentService.deleteAttachment(saved.getId());
+            status.setRollbackOnly();
+        });
+        assertThat(quotaService.getUsage(projectId).getUsedBytes()).isEqualTo(CONTENT.length);
+
+        attachmentService.deleteAttachment(saved.getId());
+        assertThat(quotaService.getUsage(projectId).getUsedBytes()).isZero();
+        assertThat(quotaService.getUsage(projectId).getAttachments()).isZero();
+    }
+
+    private TaskAttachmentDTO upload() {
+        try {
+            return attachmentService.saveAttachment(taskId, "nota.txt", "text/plain", CONTENT.length,
+                    new ByteArrayInputStream(CONTENT));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.astentask.service;
+
+import com.astentask.PostgresIntegrationTest;
+import com.astentask.dtos.TaskResponseDTO;
+import com.astentask.dtos.pages.CursorPageResponseDTO;
+import com.astentask.exception.BadRequestException;
+import com.astentask.model.Project;
+import com.astentask.model.Role;
+import com.astentask.model.Task;
+import com.astentask.model.User;
+import com.astentask.repositories.ProjectRepository;
+import com.astentask.repositories.TaskRepository;
+import com.astentask.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Paginação por cursor sobre um campo que aceita nulo: as tarefas sem prazo vêm por último nas duas direções,
+ * desempatadas pelo id, e nenhuma linha se repete ou se perde na troca de página, qualquer que seja o tamanho.
+ */
+@PostgresIntegrationTest
+class TaskCursorPaginationTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 8, 1, 9, 0);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Long projectId;
+    private Long first;
+    private Long second;
+    private Long sameDayAsFirst;
+    private Long noDueDate;
+    private Long anotherNoDueDate;
+    private Long earliest;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(User.builder()
+                .name("gerente").email("gerente@astentask.com").password("secret").role(Role.PROJECT_MANAGER).build());
+        Project project = projectRepository.save(Project.builder().name("Projeto").owner(owner).build());
+        Project other = projectRepository.save(Project.builder().name("Outro").owner(owner).build());
+        projectId = project.getId();
+
+        first = save(project, "Revisar contrato", DAY.plusDays(1));
+        second = save(project, "Deploy em produção", DAY.plusDays(2));
+        sameDayAsFirst = save(project, "Atualizar documentação", DAY.plusDays(1));
+        noDueDate = save(project, "Ideias soltas", null);
+        anotherNoDueDate = save(project, "Backlog de melhorias", null);
+        earliest = save(project, "Planejar sprint", DAY);
+        save(other, "Tarefa de outro projeto", DAY);
+    }
+
+    @Test
+    void ascendingPutsNullDueDatesLastOrderedById() {
+        List<Long> expected = List.of(earliest, first, sameDayAsFirst, second, noDueDate, anotherNoDueDate);
+
+        for (int size : new int[]{1, 2, 4, 10}) {
+            assertThat(walk(null, "dueDate", Sort.Direction.ASC, size)).as("páginas de %d", size).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void descendingStillPutsNullDueDatesLast() {
+        List<Long> expected = List.of(second, sameDayAsFirst, first, earliest, anotherNoDueDate, noDueDate);
+
+        for (int size : new int[]{1, 2, 4, 10}) {
+            assertThat(walk(null, "dueDate", Sort.Direction.DESC, size)).as("páginas de %d", size).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void textSearchIsAppliedBeforeTheCursor() {
+        assertThat(walk("deploy", "dueDate", Sort.Direction.ASC, 1)).containsExactly(second);
+    }
+
+    @Test
+    void relevanceIsValidatedLikeThePagedListing() {
+        assertThatThrownBy(() -> page(null, "relevance", Sort.Direction.DESC, null, 10))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Ordenação por relevância exige o parâmetro q");
+        assertThatThrownBy(() -> page("deploy", "relevance", Sort.Direction.DESC, null, 10))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("paginação por cursor");
+    }
+
+    private List<Long> walk(String q, String sortBy, Sort.Direction direction, int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponseDTO<TaskResponseDTO> page = page(q, sortBy, direction, cursor, size);
+            page.getContent().forEach(task -> ids.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private CursorPageResponseDTO<TaskResponseDTO> page(String q, String sortBy, Sort.Direction direction,
+                                                        String cursor, int size) {
+        return taskService.listTasksByCursor(projectId, null, q, null, null, null, null, null,
+                sortBy, direction, cursor, size);
+    }
+
+    private Long save(Project project, String title, LocalDateTime dueDate) {
+        return taskRepository.save(Task.builder().title(title).dueDate(dueDate).project(project).build()).getId();
+    }
+}
@@ -0,0 +1,123 @@
+package com.astentask.specification;
+
+import com.astentask.dtos.pages.CursorPageResponseDTO;
+import com.astentask.exception.BadRequestException;
+import com.astentask.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * O cursor é opaco para o cliente, mas chega de volta pela URL: qualquer token adulterado ou gerado para
+ * outra ordenação deve virar 400, nunca uma consulta com posição errada.
+ */
+class TaskCursorTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2025, 8, 1, 10, 30);
+
+    @Test
+    void roundTripKeepsValueAndId() {
+        String token = TaskCursor.of(task(7L, "Tarefa", DUE), "dueDate", Sort.Direction.ASC).encode();
+
+        TaskCursor cursor = decode(token, "dueDate", Sort.Direction.ASC);
+
+        assertThat(cursor.getValue()).isEqualTo(DUE);
+        assertThat(cursor.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void roundTripKeepsTitlesWithTheSeparator() {
+        String token = TaskCursor.of(task(3L, "Revisar | deploy", null), "title", Sort.Direction.DESC).encode();
+
+        assertThat(decode(token, "title", Sort.Direction.DESC).getValue()).isEqualTo("Revisar | deploy");
+    }
+
+    @Test
+    void roundTripKeepsNullDueDate() {
+        String token = TaskCursor.of(task(9L, "Sem prazo", null), "dueDate", Sort.Direction.DESC).encode();
+
+        TaskCursor cursor = decode(token, "dueDate", Sort.Direction.DESC);
+        assertThat(cursor.getValue()).isNull();
+        assertThat(cursor.getId()).isEqualTo(9L);
+    }
+
+    @Test
+    void cursorForAnotherSortFieldIsRejected() {
+        String token = TaskCursor.of(task(1L, "Tarefa", DUE), "dueDate", Sort.Direction.ASC).encode();
+
+        assertThatThrownBy(() -> decode(token, "createdAt", Sort.Direction.ASC))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void cursorForAnotherDirectionIsRejected() {
+        String token = TaskCursor.of(task(1L, "Tarefa", DUE), "dueDate", Sort.Direction.ASC).encode();
+
+        assertThatThrownBy(() -> decode(token, "dueDate", Sort.Direction.DESC))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void tamperedCursorsAreRejected() {
+        List<String> tampered = List.of(
+                "não-é-base64!",
+                raw("dueDate|ASC|7"),
+                raw("dueDate|ASC|sete|=" + DUE),
+                raw("dueDate|ASC|7|=amanhã"),
+                raw("dueDate|ASC|7|" + DUE));
+
+        assertThat(tampered).allSatisfy(token ->
+                assertThatThrownBy(() -> decode(token, "dueDate", Sort.Direction.ASC))
+                        .isInstanceOf(BadRequestException.class));
+        assertThatThrownBy(() -> decode(raw("id|ASC|7|=sete"), "id", Sort.Direction.ASC))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void unsupportedSortFieldIsRejected() {
+        assertThatThrownBy(() -> TaskCursor.checkSortable("relevance")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> TaskCursor.checkSortable("description")).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void pageSizeOutsideTheLimitsIsRejected() {
+        assertThatThrownBy(() -> TaskCursor.checkPageSize(0)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> TaskCursor.checkPageSize(TaskCursor.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(BadRequestException.class);
+        TaskCursor.checkPageSize(TaskCursor.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void extraRowOnlySignalsTheNextPage() {
+        List<Task> rows = List.of(task(1L, "a", DUE), task(2L, "b", DUE), task(3L, "c", null));
+
+        CursorPageResponseDTO<Long> page = TaskCursor.toPage(rows, 2, "dueDate", Sort.Direction.ASC, Task::getId);
+
+        assertThat(page.getContent()).containsExactly(1L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(decode(page.getNextCursor(), "dueDate", Sort.Direction.ASC).getId()).isEqualTo(2L);
+
+        CursorPageResponseDTO<Long> last = TaskCursor.toPage(rows.subList(2, 3), 2, "dueDate", Sort.Direction.ASC, Task::getId);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    private static TaskCursor decode(String token, String sortBy, Sort.Direction direction) {
+        return TaskCursor.decode(token, sortBy, direction);
+    }
+
+    private static String raw(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Task task(Long id, String title, LocalDateTime dueDate) {
+        return Task.builder().id(id).title(title).dueDate(dueDate).build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.astentask.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Leitura do Accept-Encoding: o conteúdo comprimido só vai como está quando o cliente aceita deflate.
+ */
+class AttachmentCompressionTest {
+
+    private static final String DEFLATE = AttachmentCompression.DEFLATE;
+
+    @Test
+    void acceptsDeflateListedByName() {
+        assertThat(AttachmentCompression.accepts("gzip, deflate, br", DEFLATE)).isTrue();
+        assertThat(AttachmentCompression.accepts("DEFLATE", DEFLATE)).isTrue();
+        assertThat(AttachmentCompression.accepts("gzip;q=1.0, deflate;q=0.5", DEFLATE)).isTrue();
+        assertThat(AttachmentCompression.accepts("deflate;q=0.01", DEFLATE)).isTrue();
+    }
+
+    @Test
+    void rejectsMissingHeaderOtherEncodingsAndZeroQuality() {
+        assertThat(AttachmentCompression.accepts(null, DEFLATE)).isFalse();
+        assertThat(AttachmentCompression.accepts("", DEFLATE)).isFalse();
+        assertThat(AttachmentCompression.accepts("gzip, br", DEFLATE)).isFalse();
+        assertThat(AttachmentCompression.accepts("identity", DEFLATE)).isFalse();
+        assertThat(AttachmentCompression.accepts("gzip, deflate;q=0", DEFLATE)).isFalse();
+        assertThat(AttachmentCompression.accepts("deflate; q = 0.000", DEFLATE)).isFalse();
+    }
+
+    @Test
+    void wildcardAppliesOnlyWhenDeflateIsNotNamed() {
+        assertThat(AttachmentCompression.accepts("*", DEFLATE)).isTrue();
+        assertThat(AttachmentCompression.accepts("gzip, *;q=0", DEFLATE)).isFalse();
+        assertThat(AttachmentCompression.accepts("*, deflate;q=0", DEFLATE)).isFalse();
+        assertThat(AttachmentCompression.accepts("*;q=0, deflate", DEFLATE)).isTrue();
+    }
+}